@@ -0,0 +1,127 @@
+package com.moandjiezana.toml;
+
+import static com.moandjiezana.toml.ValueReaders.VALUE_READERS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ArrayValueReader implements ValueReader {
+
+    static final ArrayValueReader ARRAY_VALUE_READER = new ArrayValueReader();
+
+    @Override
+    public boolean canRead(Source s, int index) {
+        return s.charAt(index) == '[';
+    }
+
+    @Override
+    public Object read(Source s, AtomicInteger index, Context context) {
+        final AtomicInteger line = context.line();
+        final int startLine = line.get();
+        final int startIndex = index.get();
+        final List<Object> arrayItems = new ArrayList<>();
+        final Numbers numbers = new Numbers();
+        Object first = null;
+        boolean terminated = false;
+        boolean inComment = false;
+        final Results.Errors errors = new Results.Errors();
+
+        // The shared index is only updated around nested values, as updating it for every character is comparatively slow
+        int i = index.get() + 1;
+
+        for (; s.has(i); i++) {
+
+            final char c = s.charAt(i);
+
+            if (c == '#' && !inComment) {
+                inComment = true;
+            } else if (c == '\n') {
+                inComment = false;
+                line.incrementAndGet();
+            } else if (inComment || Character.isWhitespace(c) || c == ',') {
+                continue;
+            } else if (c == ']') {
+                terminated = true;
+                break;
+            } else {
+                index.set(i);
+                final Object converted = c == '[' ? this.read(s, index, context) : VALUE_READERS.convert(s, index, context);
+                i = index.get();
+
+                if (converted instanceof Results.Errors) {
+                    errors.add((Results.Errors) converted);
+                } else if (!this.isHomogenousArray(converted, first)) {
+                    errors.heterogenous(context.identifier().getName(), line.get());
+                } else if (converted instanceof Long || converted instanceof Double) {
+                    numbers.add(converted);
+                } else {
+                    arrayItems.add(converted);
+                }
+
+                if (first == null && !(converted instanceof Results.Errors)) {
+                    first = converted;
+                }
+            }
+        }
+
+        index.set(i);
+
+        if (!terminated) {
+            errors.unterminated(context.identifier().getName(), s.rest(startIndex), startLine);
+        }
+
+        if (errors.hasErrors()) {
+            return errors;
+        }
+
+        return numbers.size > 0 ? numbers.toList() : Collections.unmodifiableList(arrayItems);
+    }
+
+    /**
+     * Nested arrays are compatible with each other whatever their contents, as their List implementations may differ.
+     */
+    @SuppressWarnings("BooleanMethodIsAlwaysInverted")
+    private boolean isHomogenousArray(Object o, Object first) {
+        return first == null || first.getClass().isAssignableFrom(o.getClass()) || o.getClass().isAssignableFrom(first.getClass())
+            || first instanceof List && o instanceof List;
+    }
+
+    /**
+     * Collects the elements of an array of integers or of floats without keeping them boxed.
+     */
+    private static class Numbers {
+        private long[] longs;
+        private double[] doubles;
+        private int size;
+
+        void add(Object number) {
+            if (number instanceof Long) {
+                if (this.longs == null) {
+                    this.longs = new long[8];
+                } else if (this.size == this.longs.length) {
+                    this.longs = Arrays.copyOf(this.longs, this.size * 2);
+                }
+
+                this.longs[this.size++] = (Long) number;
+            } else {
+                if (this.doubles == null) {
+                    this.doubles = new double[8];
+                } else if (this.size == this.doubles.length) {
+                    this.doubles = Arrays.copyOf(this.doubles, this.size * 2);
+                }
+
+                this.doubles[this.size++] = (Double) number;
+            }
+        }
+
+        List<?> toList() {
+            return this.longs != null ? new LongList(Arrays.copyOf(this.longs, this.size)) : new DoubleList(Arrays.copyOf(this.doubles, this.size));
+        }
+    }
+
+    private ArrayValueReader() {
+    }
+}
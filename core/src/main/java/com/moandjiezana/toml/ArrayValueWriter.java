@@ -5,6 +5,7 @@ import static com.moandjiezana.toml.ValueWriters.WRITERS;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 
 abstract class ArrayValueWriter implements ValueWriter {
@@ -31,8 +32,10 @@ abstract class ArrayValueWriter implements ValueWriter {
     protected Collection<?> normalize(Object value) {
         final Collection<Object> collection;
 
-        if (value.getClass().isArray()) {
-            // Arrays.asList() interprets an array as a single element,
+        if (value instanceof Object[]) {
+            collection = Arrays.asList((Object[]) value);
+        } else if (value.getClass().isArray()) {
+            // Arrays.asList() interprets an array of primitives as a single element,
             // so convert it to a list by hand
             collection = new ArrayList<>(Array.getLength(value));
             for (int i = 0; i < Array.getLength(value); i++) {
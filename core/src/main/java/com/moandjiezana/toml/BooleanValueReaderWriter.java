@@ -8,14 +8,13 @@ class BooleanValueReaderWriter implements ValueReader, ValueWriter {
     static final BooleanValueReaderWriter BOOLEAN_VALUE_READER_WRITER = new BooleanValueReaderWriter();
 
     @Override
-    public boolean canRead(String s) {
-        return s.startsWith("true") || s.startsWith("false");
+    public boolean canRead(Source s, int index) {
+        return s.startsWith("true", index) || s.startsWith("false", index);
     }
 
     @Override
-    public Object read(String s, AtomicInteger index, Context context) {
-        s = s.substring(index.get());
-        final Boolean b = s.startsWith("true") ? Boolean.TRUE : Boolean.FALSE;
+    public Object read(Source s, AtomicInteger index, Context context) {
+        final Boolean b = s.startsWith("true", index.get()) ? Boolean.TRUE : Boolean.FALSE;
 
         final int endIndex = b == Boolean.TRUE ? 4 : 5;
 
@@ -0,0 +1,134 @@
+package com.moandjiezana.toml;
+
+import java.io.Reader;
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes UTF-8 straight out of a {@link ByteBuffer}, such as a memory-mapped file, into the caller's char array.
+ * <p>
+ * Runs of ASCII, which make up all bare keys and most of a typical document, are widened without further checks. Anything else is validated strictly:
+ * malformed or overlong sequences, surrogates and code points beyond U+10FFFF throw an {@link IllegalStateException}. A UTF-8 byte order mark is
+ * skipped, while a UTF-16 one is rejected.
+ */
+class ByteBufferReader extends Reader {
+
+    private final ByteBuffer bytes;
+    private final byte[] array;
+    private final int arrayOffset;
+    private char pendingLowSurrogate;
+
+    ByteBufferReader(ByteBuffer bytes) {
+        this.bytes = bytes;
+        this.array = bytes.hasArray() ? bytes.array() : null;
+        this.arrayOffset = bytes.hasArray() ? bytes.arrayOffset() : 0;
+
+        final int position = bytes.position();
+        if (bytes.remaining() >= 3 && bytes.get(position) == (byte) 0xEF && bytes.get(position + 1) == (byte) 0xBB && bytes.get(position + 2) == (byte) 0xBF) {
+            bytes.position(position + 3);
+        } else if (bytes.remaining() >= 2 && (bytes.get(position) == (byte) 0xFE && bytes.get(position + 1) == (byte) 0xFF
+            || bytes.get(position) == (byte) 0xFF && bytes.get(position + 1) == (byte) 0xFE)) {
+            throw new IllegalStateException("TOML must be encoded as UTF-8, but found a UTF-16 byte order mark");
+        }
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+
+        int read = 0;
+
+        if (this.pendingLowSurrogate != 0) {
+            cbuf[off + read++] = this.pendingLowSurrogate;
+            this.pendingLowSurrogate = 0;
+        }
+
+        int position = this.bytes.position();
+        final int limit = this.bytes.limit();
+
+        if (read == 0 && position == limit) {
+            return -1;
+        }
+
+        while (read < len && position < limit) {
+            if (this.array != null) {
+                while (read < len && position < limit && this.array[this.arrayOffset + position] >= 0) {
+                    cbuf[off + read++] = (char) this.array[this.arrayOffset + position++];
+                }
+
+                if (read == len || position == limit) {
+                    break;
+                }
+            }
+
+            final int lead = this.bytes.get(position) & 0xFF;
+
+            if (lead < 0x80) {
+                cbuf[off + read++] = (char) lead;
+                position++;
+                continue;
+            }
+
+            final int size;
+            int codePoint;
+
+            if (lead >= 0xC2 && lead <= 0xDF) {
+                size = 2;
+                codePoint = lead & 0x1F;
+            } else if (lead >= 0xE0 && lead <= 0xEF) {
+                size = 3;
+                codePoint = lead & 0x0F;
+            } else if (lead >= 0xF0 && lead <= 0xF4) {
+                size = 4;
+                codePoint = lead & 0x07;
+            } else {
+                throw malformed(position);
+            }
+
+            if (position + size > limit) {
+                throw malformed(position);
+            }
+
+            for (int i = 1; i < size; i++) {
+                final int continuation = this.bytes.get(position + i) & 0xFF;
+
+                if ((continuation & 0xC0) != 0x80) {
+                    throw malformed(position);
+                }
+
+                codePoint = (codePoint << 6) | (continuation & 0x3F);
+            }
+
+            if (size == 3 && (codePoint < 0x800 || Character.isSurrogate((char) codePoint)) || size == 4 && (codePoint < 0x10000 || codePoint > 0x10FFFF)) {
+                throw malformed(position);
+            }
+
+            if (Character.isBmpCodePoint(codePoint)) {
+                cbuf[off + read++] = (char) codePoint;
+            } else {
+                cbuf[off + read++] = Character.highSurrogate(codePoint);
+
+                if (read < len) {
+                    cbuf[off + read++] = Character.lowSurrogate(codePoint);
+                } else {
+                    this.pendingLowSurrogate = Character.lowSurrogate(codePoint);
+                }
+            }
+
+            position += size;
+        }
+
+        this.bytes.position(position);
+
+        return read;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static IllegalStateException malformed(int position) {
+        return new IllegalStateException("Invalid UTF-8 byte sequence at byte " + position);
+    }
+}
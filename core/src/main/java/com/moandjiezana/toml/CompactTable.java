@@ -0,0 +1,160 @@
+package com.moandjiezana.toml;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * The immutable Map that holds the keys of a table once it has been parsed. Keys and values are kept in two right-sized arrays. Small tables are searched
+ * linearly, larger ones through an open-addressing index of positions in those arrays.
+ * <p>
+ * Compared to a HashMap, this saves an entry object per key and the unused capacity, which adds up in table arrays with many elements.
+ */
+class CompactTable extends AbstractMap<String, Object> {
+
+    private static final int MAX_LINEAR_SIZE = 8;
+
+    private final String[] keys;
+    private final Object[] values;
+    private final int[] index;
+    private Set<Map.Entry<String, Object>> entrySet;
+
+    /**
+     * @param keys   distinct and not null. Not copied.
+     * @param values not null, in the same order as keys. Not copied.
+     */
+    CompactTable(String[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+        this.index = keys.length > MAX_LINEAR_SIZE ? index(keys) : null;
+    }
+
+    @Override
+    public int size() {
+        return this.keys.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return this.indexOf(key) > -1;
+    }
+
+    @Override
+    public Object get(Object key) {
+        final int i = this.indexOf(key);
+
+        return i > -1 ? this.values[i] : null;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (this.entrySet == null) {
+            this.entrySet = new EntrySet();
+        }
+
+        return this.entrySet;
+    }
+
+    /**
+     * @return the position of key in the arrays this table was created with, or -1
+     */
+    int indexOf(Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+
+        final int hash = key.hashCode();
+
+        if (this.index == null) {
+            for (int i = 0; i < this.keys.length; i++) {
+                if (this.keys[i] == key || this.keys[i].hashCode() == hash && this.keys[i].equals(key)) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        final int mask = this.index.length - 1;
+
+        for (int slot = mix(hash) & mask; this.index[slot] != 0; slot = (slot + 1) & mask) {
+            final int i = this.index[slot] - 1;
+
+            if (this.keys[i] == key || this.keys[i].hashCode() == hash && this.keys[i].equals(key)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * @return a table of positions in keys, plus one so that 0 marks an empty slot. Always at most half full.
+     */
+    private static int[] index(String[] keys) {
+        final int[] index = new int[Integer.highestOneBit(keys.length * 2 - 1) << 1];
+        final int mask = index.length - 1;
+
+        for (int i = 0; i < keys.length; i++) {
+            int slot = mix(keys[i].hashCode()) & mask;
+
+            while (index[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+
+            index[slot] = i + 1;
+        }
+
+        return index;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public int size() {
+            return CompactTable.this.keys.length;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+
+            final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            final int i = CompactTable.this.indexOf(entry.getKey());
+
+            return i > -1 && CompactTable.this.values[i].equals(entry.getValue());
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new Iterator<Map.Entry<String, Object>>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return this.next < CompactTable.this.keys.length;
+                }
+
+                @Override
+                public Map.Entry<String, Object> next() {
+                    if (!this.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+
+                    final int i = this.next++;
+
+                    return new AbstractMap.SimpleImmutableEntry<>(CompactTable.this.keys[i], CompactTable.this.values[i]);
+                }
+            };
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.moandjiezana.toml;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -53,22 +54,30 @@ abstract class Container {
         }
 
         /**
-         * This modifies the Table's internal data structure, such that it is no longer usable.
-         * <p>
-         * Therefore, this method must only be called when all data has been gathered.
+         * Must only be called when all data has been gathered.
          *
-         * @return A Map-and-List-based of the TOML data
+         * @return A Map-and-List-based, immutable copy of the TOML data
          */
         Map<String, Object> consume() {
+            final String[] keys = new String[this.values.size()];
+            final Object[] values = new Object[keys.length];
+            int i = 0;
+
             for (Map.Entry<String, Object> entry : this.values.entrySet()) {
+                keys[i] = entry.getKey();
+
                 if (entry.getValue() instanceof Container.Table) {
-                    entry.setValue(((Container.Table) entry.getValue()).consume());
+                    values[i] = ((Container.Table) entry.getValue()).consume();
                 } else if (entry.getValue() instanceof Container.TableArray) {
-                    entry.setValue(((Container.TableArray) entry.getValue()).getValues());
+                    values[i] = ((Container.TableArray) entry.getValue()).getValues();
+                } else {
+                    values[i] = entry.getValue();
                 }
+
+                i++;
             }
 
-            return this.values;
+            return new CompactTable(keys, values);
         }
 
         @Override
@@ -103,12 +112,15 @@ abstract class Container {
             return false;
         }
 
+        /**
+         * @return an immutable List of the consumed tables
+         */
         List<Map<String, Object>> getValues() {
-            final ArrayList<Map<String, Object>> unwrappedValues = new ArrayList<>();
+            final List<Map<String, Object>> unwrappedValues = new ArrayList<>(this.values.size());
             for (Container.Table table : this.values) {
                 unwrappedValues.add(table.consume());
             }
-            return unwrappedValues;
+            return Collections.unmodifiableList(unwrappedValues);
         }
 
         Container.Table getCurrent() {
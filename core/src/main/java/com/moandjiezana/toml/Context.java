@@ -2,9 +2,9 @@ package com.moandjiezana.toml;
 
 import java.util.concurrent.atomic.AtomicInteger;
 
-record Context(Identifier identifier, AtomicInteger line, Results.Errors errors) {
+record Context(Identifier identifier, AtomicInteger line, Results.Errors errors, ParsingPolicy parsingPolicy, Symbols symbols) {
 
     public Context with(Identifier identifier) {
-        return new Context(identifier, this.line, this.errors);
+        return new Context(identifier, this.line, this.errors, this.parsingPolicy, this.symbols);
     }
 }
@@ -0,0 +1,56 @@
+package com.moandjiezana.toml;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.TimeZone;
+
+class DatePolicy {
+
+    /**
+     * TOML dates have a four-digit year
+     */
+    static final int MIN_YEAR = 0;
+    static final int MAX_YEAR = 9999;
+
+    private final TimeZone timeZone;
+    private final boolean showFractionalSeconds;
+    private final DateTimeFormatter formatter;
+    private final Instant start;
+    private final Instant end;
+
+    DatePolicy(TimeZone timeZone, boolean showFractionalSeconds) {
+        this.timeZone = timeZone;
+        this.showFractionalSeconds = showFractionalSeconds;
+
+        final String seconds = showFractionalSeconds ? "ss.SSS" : "ss";
+        final String offset = "UTC".equals(timeZone.getID()) ? "'Z'" : "XXX";
+        this.formatter = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:" + seconds + offset).withZone(timeZone.toZoneId());
+        this.start = LocalDateTime.of(MIN_YEAR, 1, 1, 0, 0).atZone(timeZone.toZoneId()).toInstant();
+        this.end = LocalDateTime.of(MAX_YEAR + 1, 1, 1, 0, 0).atZone(timeZone.toZoneId()).toInstant();
+    }
+
+    TimeZone getTimeZone() {
+        return this.timeZone;
+    }
+
+    boolean isShowFractionalSeconds() {
+        return this.showFractionalSeconds;
+    }
+
+    /**
+     * @return the formatter of instants, such as {@link java.util.Date}s, in the time zone of this policy. It is immutable, so it is shared by
+     * every write of the {@link TomlWriter}.
+     */
+    DateTimeFormatter getFormatter() {
+        return this.formatter;
+    }
+
+    /**
+     * @return true if instant falls in a year that a TOML date can hold, 0000 to 9999, in the time zone of this policy. The formatter would write
+     * other years with a sign or more digits, which TOML readers reject.
+     */
+    boolean canFormat(Instant instant) {
+        return !instant.isBefore(this.start) && instant.isBefore(this.end);
+    }
+}
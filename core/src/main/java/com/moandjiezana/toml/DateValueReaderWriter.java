@@ -0,0 +1,297 @@
+package com.moandjiezana.toml;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class DateValueReaderWriter implements ValueReader, ValueWriter {
+
+    static final DateValueReaderWriter DATE_VALUE_READER_WRITER = new DateValueReaderWriter();
+
+    @Override
+    public boolean canRead(Source s, int index) {
+        return matches(s, index, "dddd-") || matches(s, index, "dd:");
+    }
+
+    @Override
+    public Object read(Source s, AtomicInteger index, Context context) {
+        final int start = index.get();
+        final Fields fields = new Fields();
+        final int end = scan(s, start, fields);
+
+        if (end == -1) {
+            int invalidEnd = start;
+            while (s.has(invalidEnd) && isDateCharacter(s.charAt(invalidEnd))) {
+                invalidEnd++;
+            }
+
+            final Results.Errors errors = new Results.Errors();
+            errors.invalidValue(context.identifier().getName(), s.substring(start, invalidEnd), context.line().get());
+            return errors;
+        }
+
+        index.set(end - 1);
+
+        if (!fields.hasTime) {
+            return LocalDate.of(fields.year, fields.month, fields.day);
+        }
+
+        if (!fields.hasDate) {
+            return LocalTime.of(fields.hour, fields.minute, fields.second, fields.nano);
+        }
+
+        if (!fields.hasOffset) {
+            return LocalDateTime.of(fields.year, fields.month, fields.day, fields.hour, fields.minute, fields.second, fields.nano);
+        }
+
+        if (context.parsingPolicy().isOffsetDateTimes()) {
+            return OffsetDateTime.of(fields.year, fields.month, fields.day, fields.hour, fields.minute, fields.second, fields.nano,
+                ZoneOffset.ofTotalSeconds(fields.offsetSeconds));
+        }
+
+        final long seconds = epochDay(fields.year, fields.month, fields.day) * 86400 + fields.hour * 3600 + fields.minute * 60 + fields.second
+            - fields.offsetSeconds;
+
+        return new Date(seconds * 1000 + fields.nano / 1_000_000);
+    }
+
+    @Override
+    public int skip(Source s, int index) {
+        final int end = scan(s, index, new Fields());
+
+        return end == -1 ? -1 : end - 1;
+    }
+
+    /**
+     * The parts of an offset date-time, local date-time, local date or local time.
+     */
+    private static class Fields {
+        boolean hasDate;
+        boolean hasTime;
+        boolean hasOffset;
+        int year;
+        int month;
+        int day;
+        int hour;
+        int minute;
+        int second;
+        int nano;
+        int offsetSeconds;
+    }
+
+    /**
+     * Reads a date and/or time into fields, checking that each field is in range. Fractions of seconds beyond nanoseconds are truncated.
+     *
+     * @return the index after the last character, or -1 if the value is not valid
+     */
+    private static int scan(Source s, int index, Fields fields) {
+        int i = index;
+
+        if (matches(s, i, "dddd-dd-dd")) {
+            fields.hasDate = true;
+            fields.year = number(s, i, 4);
+            fields.month = number(s, i + 5, 2);
+            fields.day = number(s, i + 8, 2);
+
+            if (fields.month < 1 || fields.month > 12 || fields.day < 1 || fields.day > daysInMonth(fields.year, fields.month)) {
+                return -1;
+            }
+
+            i += 10;
+
+            if (!s.has(i)) {
+                return i;
+            }
+
+            final char separator = s.charAt(i);
+
+            if (separator == ' ' && !matches(s, i + 1, "dd:")) {
+                return i;
+            } else if (separator != 'T' && separator != 't' && separator != ' ') {
+                return i;
+            }
+
+            i++;
+        }
+
+        if (!matches(s, i, "dd:dd:dd")) {
+            return -1;
+        }
+
+        fields.hasTime = true;
+        fields.hour = number(s, i, 2);
+        fields.minute = number(s, i + 3, 2);
+        fields.second = number(s, i + 6, 2);
+
+        if (fields.hour > 23 || fields.minute > 59 || fields.second > 59) {
+            return -1;
+        }
+
+        i += 8;
+
+        if (s.has(i) && s.charAt(i) == '.') {
+            final int fractionStart = ++i;
+            while (s.has(i) && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+                if (i - fractionStart < 9) {
+                    fields.nano = fields.nano * 10 + s.charAt(i) - '0';
+                }
+                i++;
+            }
+
+            if (i == fractionStart) {
+                return -1;
+            }
+
+            for (int digits = i - fractionStart; digits < 9; digits++) {
+                fields.nano *= 10;
+            }
+        }
+
+        if (!fields.hasDate) {
+            return i;
+        }
+
+        if (s.has(i) && (s.charAt(i) == 'Z' || s.charAt(i) == 'z')) {
+            fields.hasOffset = true;
+
+            return i + 1;
+        }
+
+        if (matches(s, i, "+dd:dd")) {
+            final int hours = number(s, i + 1, 2);
+            final int minutes = number(s, i + 4, 2);
+
+            if (hours > 23 || minutes > 59) {
+                return -1;
+            }
+
+            fields.hasOffset = true;
+            fields.offsetSeconds = (s.charAt(i) == '-' ? -1 : 1) * (hours * 3600 + minutes * 60);
+
+            return i + 6;
+        }
+
+        return i;
+    }
+
+    private static boolean isDateCharacter(char c) {
+        return Character.isDigit(c) || c == '-' || c == '+' || c == ':' || c == '.' || c == 'T' || c == 'Z';
+    }
+
+    /**
+     * @param pattern where d stands for a digit and + for either sign
+     */
+    private static boolean matches(Source s, int index, String pattern) {
+        if (!s.has(index + pattern.length() - 1)) {
+            return false;
+        }
+
+        for (int i = 0; i < pattern.length(); i++) {
+            final char c = s.charAt(index + i);
+            final char expected = pattern.charAt(i);
+
+            if (expected == 'd' ? c < '0' || c > '9' : expected == '+' ? c != '+' && c != '-' : c != expected) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int number(Source s, int index, int length) {
+        int number = 0;
+        for (int i = index; i < index + length; i++) {
+            number = number * 10 + s.charAt(i) - '0';
+        }
+
+        return number;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        if (month == 2) {
+            return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+        }
+
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    /**
+     * @return the number of days from 1970-01-01 in the proleptic Gregorian calendar, as {@link LocalDate#toEpochDay()}
+     */
+    private static long epochDay(int year, int month, int day) {
+        final int y = month <= 2 ? year - 1 : year;
+        final int era = Math.floorDiv(y, 400);
+        final int yearOfEra = y - era * 400;
+        final int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+        return era * 146097L + dayOfEra - 719468;
+    }
+
+    @Override
+    public boolean canWrite(Object value) {
+        return value instanceof Date || value instanceof Instant || value instanceof OffsetDateTime || value instanceof ZonedDateTime
+            || value instanceof LocalDateTime || value instanceof LocalDate || value instanceof LocalTime;
+    }
+
+    /**
+     * Dates and Instants are written in the time zone of the {@link DatePolicy}. Other java.time values are written as they are, in their ISO format.
+     *
+     * @throws IllegalStateException If the year of value is not between 0000 and 9999, as a TOML date cannot hold it
+     */
+    @Override
+    public void write(Object value, WriterContext context) {
+        if (value instanceof Date || value instanceof Instant) {
+            final Instant instant = value instanceof Date ? Instant.ofEpochMilli(((Date) value).getTime()) : (Instant) value;
+
+            if (!context.getDatePolicy().canFormat(instant)) {
+                throw yearOutOfRange(value, context);
+            }
+
+            context.write(instant, context.getDatePolicy().getFormatter());
+        } else if (value instanceof LocalTime) {
+            context.write((LocalTime) value, DateTimeFormatter.ISO_LOCAL_TIME);
+        } else {
+            final TemporalAccessor temporal = (TemporalAccessor) value;
+            final int year = temporal.get(ChronoField.YEAR);
+
+            if (year < DatePolicy.MIN_YEAR || year > DatePolicy.MAX_YEAR) {
+                throw yearOutOfRange(value, context);
+            }
+
+            if (value instanceof LocalDateTime) {
+                context.write(temporal, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+            } else if (value instanceof LocalDate) {
+                context.write(temporal, DateTimeFormatter.ISO_LOCAL_DATE);
+            } else {
+                context.write(temporal, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+            }
+        }
+    }
+
+    private static IllegalStateException yearOutOfRange(Object value, WriterContext context) {
+        return new IllegalStateException(context.getContextPath() + ": cannot write " + value + ", as TOML dates must have a year between 0000 and 9999");
+    }
+
+    @Override
+    public boolean isPrimitiveType() {
+        return true;
+    }
+
+    private DateValueReaderWriter() {
+    }
+
+    @Override
+    public String toString() {
+        return "datetime";
+    }
+}
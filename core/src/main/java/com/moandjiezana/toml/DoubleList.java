@@ -0,0 +1,37 @@
+package com.moandjiezana.toml;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * An immutable List of the values of an array of floats, backed by a double[]. Elements are only boxed when they are requested. Like every array of a
+ * parsed document, it cannot be modified, as the document may be shared, for example by a {@link TomlCache}.
+ */
+class DoubleList extends AbstractList<Double> implements RandomAccess {
+
+    private final double[] values;
+
+    /**
+     * @param values not copied
+     */
+    DoubleList(double[] values) {
+        this.values = values;
+    }
+
+    @Override
+    public Double get(int index) {
+        return this.values[index];
+    }
+
+    @Override
+    public int size() {
+        return this.values.length;
+    }
+
+    /**
+     * @return a copy of the values
+     */
+    double[] toDoubleArray() {
+        return this.values.clone();
+    }
+}
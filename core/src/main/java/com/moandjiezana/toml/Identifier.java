@@ -0,0 +1,58 @@
+package com.moandjiezana.toml;
+
+record Identifier(String name, com.moandjiezana.toml.Identifier.Type type) {
+
+    static final Identifier INVALID = new Identifier("", null);
+
+    static Identifier key(String name) {
+        return new Identifier(name, Type.KEY);
+    }
+
+    /**
+     * @param name including the enclosing square brackets
+     */
+    static Identifier table(String name) {
+        return new Identifier(name, Type.TABLE);
+    }
+
+    /**
+     * @param name including the enclosing double square brackets
+     */
+    static Identifier tableArray(String name) {
+        return new Identifier(name, Type.TABLE_ARRAY);
+    }
+
+    String getName() {
+        return this.name;
+    }
+
+    String getBareName() {
+        if (this.isKey()) {
+            return this.name;
+        }
+
+        if (this.isTable()) {
+            return this.name.substring(1, this.name.length() - 1);
+        }
+
+        return this.name.substring(2, this.name.length() - 2);
+    }
+
+    boolean isKey() {
+        return this.type == Type.KEY;
+    }
+
+    boolean isTable() {
+        return this.type == Type.TABLE;
+    }
+
+    boolean isTableArray() {
+        return this.type == Type.TABLE_ARRAY;
+    }
+
+    private enum Type {
+        KEY,
+        TABLE,
+        TABLE_ARRAY
+    }
+}
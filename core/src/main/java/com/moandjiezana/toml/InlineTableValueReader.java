@@ -0,0 +1,93 @@
+package com.moandjiezana.toml;
+
+import static com.moandjiezana.toml.ValueReaders.VALUE_READERS;
+
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class InlineTableValueReader implements ValueReader {
+
+    static final InlineTableValueReader INLINE_TABLE_VALUE_READER = new InlineTableValueReader();
+
+    @Override
+    public boolean canRead(Source s, int index) {
+        return s.charAt(index) == '{';
+    }
+
+    @Override
+    public Object read(Source s, AtomicInteger sharedIndex, Context context) {
+        final AtomicInteger line = context.line();
+        final int startLine = line.get();
+        final int startIndex = sharedIndex.get();
+        final TomlLexer lexer = new TomlLexer(s, startIndex + 1, context.symbols());
+        boolean keyAllowed = true;
+        boolean terminated = false;
+        Identifier identifier = null;
+        final HashMap<String, Object> results = new HashMap<>();
+        final Results.Errors errors = new Results.Errors();
+
+        while (true) {
+            final TomlLexer.Token token = lexer.next();
+
+            if (token == TomlLexer.Token.NEWLINE) {
+                line.incrementAndGet();
+            } else if (token == TomlLexer.Token.RIGHT_BRACE) {
+                sharedIndex.set(lexer.start());
+                terminated = true;
+                break;
+            } else if (token == TomlLexer.Token.EOF) {
+                break;
+            } else if (keyAllowed && (token == TomlLexer.Token.BARE_KEY || token == TomlLexer.Token.QUOTED_KEY)) {
+                identifier = Identifier.key(lexer.keyName());
+
+                if (lexer.next() != TomlLexer.Token.EQUALS) {
+                    errors.invalidKey(identifier.getName(), line.get());
+                    return errors;
+                }
+
+                if (lexer.next() != TomlLexer.Token.VALUE_START) {
+                    break;
+                }
+
+                sharedIndex.set(lexer.start());
+                final Object converted = VALUE_READERS.convert(s, sharedIndex, context.with(identifier));
+
+                if (converted instanceof Results.Errors) {
+                    errors.add((Results.Errors) converted);
+                    return errors;
+                }
+
+                final Object previous = results.put(identifier.getName(), converted);
+
+                if (previous != null) {
+                    errors.duplicateKey(identifier.getName(), context.line().get());
+                    return errors;
+                }
+
+                lexer.seek(sharedIndex.get() + 1);
+                keyAllowed = false;
+            } else if (!keyAllowed && token == TomlLexer.Token.COMMA) {
+                keyAllowed = true;
+            } else if (identifier != null && !keyAllowed) {
+                errors.invalidTextAfterIdentifier(identifier, s.charAt(lexer.start()), line.get());
+                return errors;
+            } else {
+                errors.invalidKey(s.substring(lexer.start(), Math.max(lexer.end(), lexer.start() + 1)), line.get());
+                return errors;
+            }
+        }
+
+        if (!terminated) {
+            errors.unterminated(context.identifier().getName(), s.rest(startIndex), startLine);
+        }
+
+        if (errors.hasErrors()) {
+            return errors;
+        }
+
+        return results;
+    }
+
+    private InlineTableValueReader() {
+    }
+}
@@ -0,0 +1,58 @@
+package com.moandjiezana.toml;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.function.Function;
+
+/**
+ * Converts java.time values to and from their ISO representation in JSON, as Gson cannot reach into their private fields. Dates are written as ISO
+ * instants too, so that an offset date-time can be bound to either a Date or an OffsetDateTime without losing its milliseconds.
+ */
+class JavaTimeTypeAdapter<T> extends TypeAdapter<T> {
+
+    static GsonBuilder registerAll(GsonBuilder gsonBuilder) {
+        return gsonBuilder
+            .registerTypeAdapter(Date.class, new JavaTimeTypeAdapter<Date>(date -> date.toInstant().toString(),
+                text -> Date.from(OffsetDateTime.parse(text).toInstant())))
+            .registerTypeAdapter(OffsetDateTime.class, new JavaTimeTypeAdapter<>(OffsetDateTime::toString, OffsetDateTime::parse))
+            .registerTypeAdapter(LocalDateTime.class, new JavaTimeTypeAdapter<>(LocalDateTime::toString, LocalDateTime::parse))
+            .registerTypeAdapter(LocalDate.class, new JavaTimeTypeAdapter<>(LocalDate::toString, LocalDate::parse))
+            .registerTypeAdapter(LocalTime.class, new JavaTimeTypeAdapter<>(LocalTime::toString, LocalTime::parse));
+    }
+
+    private final Function<T, String> formatter;
+    private final Function<String, T> parser;
+
+    private JavaTimeTypeAdapter(Function<T, String> formatter, Function<String, T> parser) {
+        this.formatter = formatter;
+        this.parser = parser;
+    }
+
+    @Override
+    public void write(JsonWriter out, T value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+        } else {
+            out.value(this.formatter.apply(value));
+        }
+    }
+
+    @Override
+    public T read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        return this.parser.apply(in.nextString());
+    }
+}
@@ -21,9 +21,13 @@ class Keys {
         }
     }
 
+    /**
+     * Scans key backwards, so that each name can be linked to the ones after it. Names are taken as substrings of key, rather than built up
+     * character by character.
+     */
     static Keys.Key[] split(String key) {
         final List<Key> splitKey = new ArrayList<Key>();
-        StringBuilder current = new StringBuilder();
+        int currentEnd = key.length();
         boolean quoted = false;
         boolean indexable = true;
         boolean inIndex = false;
@@ -33,31 +37,35 @@ class Keys {
             final char c = key.charAt(i);
             if (c == ']' && indexable) {
                 inIndex = true;
+                currentEnd = i;
                 continue;
             }
             indexable = false;
             if (c == '[' && inIndex) {
                 inIndex = false;
-                index = Integer.parseInt(current.toString());
-                current = new StringBuilder();
+                index = Integer.parseInt(key.substring(i + 1, currentEnd));
+                currentEnd = i;
                 continue;
             }
             if (isQuote(c) && (i == 0 || key.charAt(i - 1) != '\\')) {
                 quoted = !quoted;
             }
-            if (c != '.' || quoted) {
-                current.insert(0, c);
-            } else {
-                splitKey.add(0, new Key(current.toString(), index, !splitKey.isEmpty() ? splitKey.get(0) : null));
+            if (c == '.' && !quoted) {
+                splitKey.add(new Key(key.substring(i + 1, currentEnd), index, !splitKey.isEmpty() ? splitKey.get(splitKey.size() - 1) : null));
                 indexable = true;
                 index = -1;
-                current = new StringBuilder();
+                currentEnd = i;
             }
         }
 
-        splitKey.add(0, new Key(current.toString(), index, !splitKey.isEmpty() ? splitKey.get(0) : null));
+        splitKey.add(new Key(key.substring(0, currentEnd), index, !splitKey.isEmpty() ? splitKey.get(splitKey.size() - 1) : null));
+
+        final Key[] keys = new Key[splitKey.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = splitKey.get(keys.length - 1 - i);
+        }
 
-        return splitKey.toArray(new Key[0]);
+        return keys;
     }
 
     static boolean isQuote(char c) {
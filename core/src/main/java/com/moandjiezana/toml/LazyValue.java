@@ -0,0 +1,97 @@
+package com.moandjiezana.toml;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A scalar that has been checked by {@link ValueReader#skip(Source, int)}, but is only decoded when it is first read. The decoded value is then kept, so
+ * the source can be dropped.
+ */
+class LazyValue {
+
+    private final ValueReader reader;
+    private final ParsingPolicy parsingPolicy;
+    private final String key;
+    private final int line;
+    private final int index;
+    private Source source;
+    private volatile Object value;
+
+    LazyValue(ValueReader reader, ParsingPolicy parsingPolicy, Source source, int index, String key, int line) {
+        this.reader = reader;
+        this.parsingPolicy = parsingPolicy;
+        this.source = source;
+        this.index = index;
+        this.key = key;
+        this.line = line;
+    }
+
+    /**
+     * @return value, decoded if it is a LazyValue
+     */
+    static Object resolve(Object value) {
+        return value instanceof LazyValue ? ((LazyValue) value).get() : value;
+    }
+
+    /**
+     * @return a copy of value in which all nested LazyValues have been decoded, or value itself if it cannot contain any. Lists stay immutable, as they
+     * are in a document that was not read lazily.
+     */
+    @SuppressWarnings("unchecked")
+    static Object resolveAll(Object value) {
+        if (value instanceof Map) {
+            final Map<String, Object> resolved = new HashMap<>();
+
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                resolved.put(entry.getKey(), resolveAll(entry.getValue()));
+            }
+
+            return resolved;
+        }
+
+        if (value instanceof LongList || value instanceof DoubleList) {
+            return value;
+        }
+
+        if (value instanceof List) {
+            final List<Object> resolved = new ArrayList<>();
+
+            for (Object item : (List<Object>) value) {
+                resolved.add(resolveAll(item));
+            }
+
+            return Collections.unmodifiableList(resolved);
+        }
+
+        return resolve(value);
+    }
+
+    Object get() {
+        Object value = this.value;
+
+        if (value == null) {
+            synchronized (this) {
+                value = this.value;
+
+                if (value == null) {
+                    final Context context = new Context(Identifier.key(this.key), new AtomicInteger(this.line), new Results.Errors(), this.parsingPolicy,
+                        new Symbols(null, false));
+                    value = this.reader.read(this.source, new AtomicInteger(this.index), context);
+
+                    if (value instanceof Results.Errors) {
+                        throw new IllegalStateException(value.toString());
+                    }
+
+                    this.value = value;
+                    this.source = null;
+                }
+            }
+        }
+
+        return value;
+    }
+}
@@ -8,17 +8,17 @@ class LiteralStringValueReader implements ValueReader {
     static final LiteralStringValueReader LITERAL_STRING_VALUE_READER = new LiteralStringValueReader();
 
     @Override
-    public boolean canRead(String s) {
-        return s.startsWith("'");
+    public boolean canRead(Source s, int index) {
+        return s.charAt(index) == '\'';
     }
 
     @Override
-    public Object read(String s, AtomicInteger index, Context context) {
+    public Object read(Source s, AtomicInteger index, Context context) {
         final int startLine = context.line().get();
         boolean terminated = false;
         final int startIndex = index.incrementAndGet();
 
-        for (int i = index.get(); i < s.length(); i = index.incrementAndGet()) {
+        for (int i = index.get(); s.has(i); i = index.incrementAndGet()) {
             final char c = s.charAt(i);
 
             if (c == '\'') {
@@ -29,13 +29,28 @@ class LiteralStringValueReader implements ValueReader {
 
         if (!terminated) {
             final Results.Errors errors = new Results.Errors();
-            errors.unterminated(context.identifier().getName(), s.substring(startIndex), startLine);
+            errors.unterminated(context.identifier().getName(), s.rest(startIndex), startLine);
             return errors;
         }
 
         return s.substring(startIndex, index.get());
     }
 
+    @Override
+    public int skip(Source s, int index) {
+        for (int i = index + 1; s.has(i); i++) {
+            final char c = s.charAt(i);
+
+            if (c == '\'') {
+                return i;
+            } else if (c == '\n') {
+                return -1;
+            }
+        }
+
+        return -1;
+    }
+
     private LiteralStringValueReader() {
     }
 }
@@ -0,0 +1,37 @@
+package com.moandjiezana.toml;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * An immutable List of the values of an array of integers, backed by a long[]. Elements are only boxed when they are requested. Like every array of a
+ * parsed document, it cannot be modified, as the document may be shared, for example by a {@link TomlCache}.
+ */
+class LongList extends AbstractList<Long> implements RandomAccess {
+
+    private final long[] values;
+
+    /**
+     * @param values not copied
+     */
+    LongList(long[] values) {
+        this.values = values;
+    }
+
+    @Override
+    public Long get(int index) {
+        return this.values[index];
+    }
+
+    @Override
+    public int size() {
+        return this.values.length;
+    }
+
+    /**
+     * @return a copy of the values
+     */
+    long[] toLongArray() {
+        return this.values.clone();
+    }
+}
@@ -0,0 +1,116 @@
+package com.moandjiezana.toml;
+
+import static com.moandjiezana.toml.PrimitiveArrayValueWriter.PRIMITIVE_ARRAY_VALUE_WRITER;
+import static com.moandjiezana.toml.TableArrayValueWriter.TABLE_ARRAY_VALUE_WRITER;
+import static com.moandjiezana.toml.ValueWriters.WRITERS;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+class MapValueWriter implements ValueWriter {
+    static final ValueWriter MAP_VALUE_WRITER = new MapValueWriter();
+
+    private static final Pattern REQUIRED_QUOTING_PATTERN = Pattern.compile("^.*[^A-Za-z\\d_-].*$");
+
+    @Override
+    public boolean canWrite(Object value) {
+        return value instanceof Map;
+    }
+
+    @Override
+    public void write(Object value, WriterContext context) {
+        final Map<?, ?> from = (Map<?, ?>) value;
+        final Object[] keys = new Object[from.size()];
+        final Object[] values = new Object[keys.length];
+
+        int i = 0;
+        for (Map.Entry<?, ?> entry : from.entrySet()) {
+            keys[i] = entry.getKey();
+            values[i] = entry.getValue();
+            i++;
+        }
+
+        writeTable(keys, null, values, context);
+    }
+
+    /**
+     * Writes the values of a table, finding the writer of each value once. Null values are skipped.
+     *
+     * @param quotedKeys the keys as they are written, or null to quote keys as they are written
+     */
+    static void writeTable(Object[] keys, String[] quotedKeys, Object[] values, WriterContext context) {
+        final ValueWriter[] writers = new ValueWriter[values.length];
+        boolean hasPrimitiveValues = false;
+
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                writers[i] = WRITERS.findWriterFor(values[i]);
+                hasPrimitiveValues |= isPrimitive(writers[i]);
+            }
+        }
+
+        if (hasPrimitiveValues) {
+            context.writeKey();
+        }
+
+        // Render primitive types and arrays of primitive first so they are
+        // grouped under the same table (if there is one)
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null && isPrimitive(writers[i])) {
+                writePrimitive(keys[i].toString(), quotedKeys != null ? quotedKeys[i] : quoteKey(keys[i]), values[i], writers[i], context);
+            }
+        }
+
+        // Now render (sub)tables and arrays of tables
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null && isTable(writers[i])) {
+                writers[i].write(values[i], context.pushTable(quotedKeys != null ? quotedKeys[i] : quoteKey(keys[i])));
+            }
+        }
+    }
+
+    /**
+     * @return true if values written by valueWriter go on a key = value line, rather than in a table of their own
+     */
+    private static boolean isPrimitive(ValueWriter valueWriter) {
+        return valueWriter.isPrimitiveType() || valueWriter == PRIMITIVE_ARRAY_VALUE_WRITER;
+    }
+
+    private static boolean isTable(ValueWriter valueWriter) {
+        return valueWriter == MAP_VALUE_WRITER || valueWriter == ObjectValueWriter.OBJECT_VALUE_WRITER || valueWriter == TABLE_ARRAY_VALUE_WRITER;
+    }
+
+    /**
+     * Writes a key = value line for a value whose writer {@link #isPrimitive(ValueWriter)}.
+     */
+    private static void writePrimitive(String key, String quotedKey, Object value, ValueWriter valueWriter, WriterContext context) {
+        // Also names the key in errors from writers of single values, such as dates out of range
+        context.setArrayKey(key);
+        if (valueWriter != PRIMITIVE_ARRAY_VALUE_WRITER) {
+            context.indent();
+        }
+
+        context.write(quotedKey).write(" = ");
+        valueWriter.write(value, context);
+        context.write('\n');
+    }
+
+    @Override
+    public boolean isPrimitiveType() {
+        return false;
+    }
+
+    static String quoteKey(Object key) {
+        String stringKey = key.toString();
+        final Matcher matcher = REQUIRED_QUOTING_PATTERN.matcher(stringKey);
+        if (matcher.matches()) {
+            stringKey = "\"" + stringKey + "\"";
+        }
+
+        return stringKey;
+    }
+
+    private MapValueWriter() {
+    }
+}
@@ -7,31 +7,34 @@ class MultilineLiteralStringValueReader implements ValueReader {
     static final MultilineLiteralStringValueReader MULTILINE_LITERAL_STRING_VALUE_READER = new MultilineLiteralStringValueReader();
 
     @Override
-    public boolean canRead(String s) {
-        return s.startsWith("'''");
+    public boolean canRead(Source s, int index) {
+        return s.startsWith("'''", index);
     }
 
     @Override
-    public Object read(String s, AtomicInteger index, Context context) {
+    public Object read(Source s, AtomicInteger index, Context context) {
         final AtomicInteger line = context.line();
         final int startLine = line.get();
         final int originalStartIndex = index.get();
         int startIndex = index.addAndGet(3);
         int endIndex = -1;
 
-        if (s.charAt(startIndex) == '\n') {
+        if (s.startsWith("\r\n", startIndex)) {
+            startIndex = index.addAndGet(2);
+            line.incrementAndGet();
+        } else if (s.startsWith("\n", startIndex)) {
             startIndex = index.incrementAndGet();
             line.incrementAndGet();
         }
 
-        for (int i = startIndex; i < s.length(); i = index.incrementAndGet()) {
+        for (int i = startIndex; s.has(i); i = index.incrementAndGet()) {
             final char c = s.charAt(i);
 
             if (c == '\n') {
                 line.incrementAndGet();
             }
 
-            if (c == '\'' && s.length() > i + 2 && s.charAt(i + 1) == '\'' && s.charAt(i + 2) == '\'') {
+            if (c == '\'' && s.has(i + 2) && s.charAt(i + 1) == '\'' && s.charAt(i + 2) == '\'') {
                 endIndex = i;
                 index.addAndGet(2);
                 break;
@@ -40,7 +43,7 @@ class MultilineLiteralStringValueReader implements ValueReader {
 
         if (endIndex == -1) {
             final Results.Errors errors = new Results.Errors();
-            errors.unterminated(context.identifier().getName(), s.substring(originalStartIndex), startLine);
+            errors.unterminated(context.identifier().getName(), s.rest(originalStartIndex), startLine);
             return errors;
         }
 
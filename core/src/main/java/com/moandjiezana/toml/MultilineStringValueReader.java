@@ -0,0 +1,105 @@
+package com.moandjiezana.toml;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class MultilineStringValueReader implements ValueReader {
+
+    static final MultilineStringValueReader MULTILINE_STRING_VALUE_READER = new MultilineStringValueReader();
+
+    @Override
+    public boolean canRead(Source s, int index) {
+        return s.startsWith("\"\"\"", index);
+    }
+
+    @Override
+    public Object read(Source s, AtomicInteger index, Context context) {
+        final AtomicInteger line = context.line();
+        final int startLine = line.get();
+        final int originalStartIndex = index.get();
+        int startIndex = index.addAndGet(3);
+        int endIndex = -1;
+
+        if (s.startsWith("\r\n", startIndex)) {
+            startIndex = index.addAndGet(2);
+            line.incrementAndGet();
+        } else if (s.startsWith("\n", startIndex)) {
+            startIndex = index.incrementAndGet();
+            line.incrementAndGet();
+        }
+
+        StringBuilder sb = null;
+        int runStart = startIndex;
+        int invalidIndex = -1;
+        int i = startIndex;
+
+        for (; s.has(i); i++) {
+            final char c = s.charAt(i);
+
+            if (c == '\n') {
+                line.incrementAndGet();
+            } else if (c == '"' && s.has(i + 2) && s.charAt(i + 1) == '"' && s.charAt(i + 2) == '"') {
+                endIndex = i;
+                break;
+            } else if (c == '\\') {
+                if (sb == null) {
+                    sb = new StringBuilder(i - startIndex + 16);
+                }
+
+                s.appendTo(sb, runStart, i);
+
+                if (s.has(i + 1) && isWhitespace(s.charAt(i + 1))) {
+                    // A line-ending backslash trims all the whitespace and newlines that follow it
+                    while (s.has(i + 1) && isWhitespace(s.charAt(i + 1))) {
+                        if (s.charAt(++i) == '\n') {
+                            line.incrementAndGet();
+                        }
+                    }
+                } else {
+                    final int escapeEnd = StringValueReaderWriter.unescape(s, i, sb);
+
+                    if (escapeEnd != -1) {
+                        i = escapeEnd;
+                    } else if (invalidIndex == -1) {
+                        invalidIndex = i;
+                    }
+                }
+
+                runStart = i + 1;
+            }
+        }
+
+        if (endIndex == -1) {
+            index.set(i);
+            final Results.Errors errors = new Results.Errors();
+            errors.unterminated(context.identifier().getName(), s.rest(originalStartIndex), startLine);
+            return errors;
+        }
+
+        index.set(endIndex + 2);
+
+        if (invalidIndex != -1) {
+            final Results.Errors errors = new Results.Errors();
+            errors.invalidValue(context.identifier().getName(), s.substring(startIndex, endIndex), startLine);
+            return errors;
+        }
+
+        if (sb == null) {
+            return s.substring(startIndex, endIndex);
+        }
+
+        s.appendTo(sb, runStart, endIndex);
+
+        return sb.toString();
+    }
+
+    /**
+     * @return true for the characters that the regex \s matches
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private MultilineStringValueReader() {
+    }
+
+}
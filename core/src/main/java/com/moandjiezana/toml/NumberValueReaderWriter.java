@@ -0,0 +1,253 @@
+package com.moandjiezana.toml;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class NumberValueReaderWriter implements ValueReader, ValueWriter {
+    static final NumberValueReaderWriter NUMBER_VALUE_READER_WRITER = new NumberValueReaderWriter();
+
+    @Override
+    public boolean canRead(Source s, int index) {
+        final char firstChar = s.charAt(index);
+
+        return firstChar == '+' || firstChar == '-' || Character.isDigit(firstChar);
+    }
+
+    @Override
+    public Object read(Source s, AtomicInteger index, Context context) {
+        final int start = index.get();
+        final int type = this.scan(s, index);
+        final int end = index.get() + 1;
+        Object value = null;
+
+        if (type == INTEGER) {
+            value = decodeLong(s, start, end);
+        } else if (type == FLOAT) {
+            value = decodeDouble(s, start, end);
+        }
+
+        if (value == null) {
+            final Results.Errors errors = new Results.Errors();
+            errors.invalidValue(context.identifier().getName(), text(s, start, end), context.line().get());
+            return errors;
+        }
+
+        return value;
+    }
+
+    /**
+     * Integers that may not fit in a long are left to {@link #read(Source, AtomicInteger, Context)}.
+     */
+    @Override
+    public int skip(Source s, int index) {
+        final AtomicInteger end = new AtomicInteger(index);
+        final int type = this.scan(s, end);
+
+        if (type == INVALID || type == INTEGER && end.get() - index >= 18 && decodeLong(s, index, end.get() + 1) == null) {
+            return -1;
+        }
+
+        return end.get();
+    }
+
+    private static final int INVALID = 0;
+    private static final int INTEGER = 1;
+    private static final int FLOAT = 2;
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Checks the syntax of the number starting at index, without decoding it.
+     *
+     * @param index left on the last character of the number
+     * @return {@link #INTEGER}, {@link #FLOAT}, or {@link #INVALID}
+     */
+    private int scan(Source s, AtomicInteger index) {
+        boolean signable = true;
+        boolean dottable = false;
+        boolean exponentable = false;
+        boolean terminatable = false;
+        boolean underscorable = false;
+        boolean exponent = false;
+        int type = INVALID;
+        int i = index.get();
+
+        for (; s.has(i); i++) {
+            final char c = s.charAt(i);
+            final boolean notLastChar = s.has(i + 1);
+
+            if (c >= '0' && c <= '9') {
+                signable = false;
+                terminatable = true;
+                if (type == INVALID) {
+                    type = INTEGER;
+                    dottable = true;
+                }
+                underscorable = notLastChar;
+                exponentable = !exponent;
+            } else if ((c == '+' || c == '-') && signable && notLastChar) {
+                signable = false;
+            } else if (c == '.' && dottable && notLastChar) {
+                type = FLOAT;
+                terminatable = false;
+                dottable = false;
+                exponentable = false;
+                underscorable = false;
+            } else if ((c == 'E' || c == 'e') && exponentable && notLastChar) {
+                type = FLOAT;
+                exponent = true;
+                terminatable = false;
+                signable = true;
+                dottable = false;
+                exponentable = false;
+                underscorable = false;
+            } else if (c == '_' && underscorable && notLastChar && Character.isDigit(s.charAt(i + 1))) {
+                underscorable = false;
+            } else {
+                if (!terminatable) {
+                    type = INVALID;
+                }
+                break;
+            }
+        }
+
+        index.set(i - 1);
+
+        return type;
+    }
+
+    /**
+     * Accumulates the digits as a negative number, whose range includes {@link Long#MIN_VALUE}.
+     *
+     * @return null if the integer does not fit in a long
+     */
+    private static Long decodeLong(Source s, int start, int end) {
+        boolean negative = false;
+        long value = 0;
+
+        for (int i = start; i < end; i++) {
+            final char c = s.charAt(i);
+
+            if (c == '-') {
+                negative = true;
+            } else if (c >= '0' && c <= '9') {
+                final int digit = c - '0';
+
+                if (value < Long.MIN_VALUE / 10 || value * 10 < Long.MIN_VALUE + digit) {
+                    return null;
+                }
+
+                value = value * 10 - digit;
+            }
+        }
+
+        if (!negative && value == Long.MIN_VALUE) {
+            return null;
+        }
+
+        return negative ? value : -value;
+    }
+
+    /**
+     * When the significant digits fit in 53 bits and the decimal exponent is at most 22, both are exactly representable as doubles, so a single
+     * multiplication or division is correctly rounded. Other numbers are handed to {@link Double#parseDouble(String)}.
+     */
+    private static Double decodeDouble(Source s, int start, int end) {
+        boolean negative = false;
+        boolean inExponent = false;
+        boolean exponentNegative = false;
+        boolean fraction = false;
+        long significand = 0;
+        int digits = 0;
+        int scale = 0;
+        int exponent = 0;
+
+        for (int i = start; i < end; i++) {
+            final char c = s.charAt(i);
+
+            if (c >= '0' && c <= '9') {
+                if (inExponent) {
+                    exponent = Math.min(exponent * 10 + c - '0', 100_000);
+                } else if (digits < 18) {
+                    significand = significand * 10 + c - '0';
+                    if (significand > 0) {
+                        digits++;
+                    }
+                    if (fraction) {
+                        scale--;
+                    }
+                } else {
+                    return parseDouble(s, start, end);
+                }
+            } else if (c == '-') {
+                if (inExponent) {
+                    exponentNegative = true;
+                } else {
+                    negative = true;
+                }
+            } else if (c == '.') {
+                fraction = true;
+            } else if (c == 'E' || c == 'e') {
+                inExponent = true;
+            }
+        }
+
+        final int power = scale + (exponentNegative ? -exponent : exponent);
+        double value;
+
+        if (significand == 0) {
+            value = 0;
+        } else if (significand < (1L << 53) && power >= -22 && power <= 22) {
+            value = significand;
+            value = power < 0 ? value / POWERS_OF_TEN[-power] : value * POWERS_OF_TEN[power];
+        } else {
+            return parseDouble(s, start, end);
+        }
+
+        return negative ? -value : value;
+    }
+
+    private static Double parseDouble(Source s, int start, int end) {
+        return Double.parseDouble(text(s, start, end));
+    }
+
+    /**
+     * @return the number without underscores or plus signs, and with an upper-case exponent
+     */
+    private static String text(Source s, int start, int end) {
+        final StringBuilder sb = new StringBuilder(Math.max(0, end - start));
+
+        for (int i = start; i < end; i++) {
+            final char c = s.charAt(i);
+
+            if (c == 'e') {
+                sb.append('E');
+            } else if (c != '_' && c != '+') {
+                sb.append(c);
+            }
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public boolean canWrite(Object value) {
+        return value instanceof Number;
+    }
+
+    @Override
+    public void write(Object value, WriterContext context) {
+        context.write(value.toString());
+    }
+
+    @Override
+    public boolean isPrimitiveType() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "number";
+    }
+}
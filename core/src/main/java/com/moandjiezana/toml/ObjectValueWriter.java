@@ -0,0 +1,120 @@
+package com.moandjiezana.toml;
+
+import static com.moandjiezana.toml.MapValueWriter.MAP_VALUE_WRITER;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+class ObjectValueWriter implements ValueWriter {
+    static final ValueWriter OBJECT_VALUE_WRITER = new ObjectValueWriter();
+
+    private static final ClassValue<WritePlan> WRITE_PLANS = new ClassValue<WritePlan>() {
+        @Override
+        protected WritePlan computeValue(Class<?> type) {
+            return new WritePlan(type);
+        }
+    };
+
+    @Override
+    public boolean canWrite(Object value) {
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void write(Object value, WriterContext context) {
+        final TomlMapper<Object> mapper = (TomlMapper<Object>) TomlMappers.find(value.getClass());
+
+        if (mapper != null) {
+            MAP_VALUE_WRITER.write(mapper.write(value), context);
+            return;
+        }
+
+        WRITE_PLANS.get(value.getClass()).write(value, context);
+    }
+
+    @Override
+    public boolean isPrimitiveType() {
+        return false;
+    }
+
+    /**
+     * The fields of a class, worked out once, written in the same order and way as {@link MapValueWriter} writes a map of field names to values.
+     */
+    private static class WritePlan {
+        private final String[] names;
+        private final String[] quotedNames;
+        private final MethodHandle[] getters;
+
+        WritePlan(Class<?> type) {
+            final List<String> names = new ArrayList<>();
+            final List<MethodHandle> getters = new ArrayList<>();
+
+            for (Class<?> cls = type; cls != Object.class; cls = cls.getSuperclass()) {
+                for (Field field : cls.getDeclaredFields()) {
+                    final int modifiers = field.getModifiers();
+                    if ((Modifier.isFinal(modifiers) && Modifier.isStatic(modifiers)) || field.isSynthetic() || Modifier.isTransient(modifiers)) {
+                        continue;
+                    }
+
+                    final MethodHandle getter = getter(field);
+                    // A field hidden by a subclass keeps the subclass field's place, but the last value read for the name wins
+                    final int hidden = names.indexOf(field.getName());
+                    if (hidden > -1) {
+                        getters.set(hidden, getter);
+                    } else {
+                        names.add(field.getName());
+                        getters.add(getter);
+                    }
+                }
+            }
+
+            this.names = names.toArray(new String[0]);
+            this.getters = getters.toArray(new MethodHandle[0]);
+            this.quotedNames = new String[this.names.length];
+            for (int i = 0; i < this.names.length; i++) {
+                this.quotedNames[i] = MapValueWriter.quoteKey(this.names[i]);
+            }
+        }
+
+        void write(Object object, WriterContext context) {
+            final Object[] values = new Object[this.getters.length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = get(this.getters[i], object);
+            }
+
+            MapValueWriter.writeTable(this.names, this.quotedNames, values, context);
+        }
+
+        private static MethodHandle getter(Field field) {
+            field.setAccessible(true);
+
+            try {
+                final MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+                final MethodHandle instanceGetter = Modifier.isStatic(field.getModifiers()) ? MethodHandles.dropArguments(getter, 0, Object.class) : getter;
+
+                return instanceGetter.asType(MethodType.methodType(Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static Object get(MethodHandle getter, Object object) {
+            try {
+                return getter.invokeExact(object);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private ObjectValueWriter() {
+    }
+}
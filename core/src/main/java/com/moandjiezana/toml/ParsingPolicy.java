@@ -0,0 +1,67 @@
+package com.moandjiezana.toml;
+
+import java.util.concurrent.ForkJoinPool;
+
+class ParsingPolicy {
+
+    static final ParsingPolicy DEFAULT = new ParsingPolicy(false, null, false, null, false, false, false);
+
+    private final boolean lazyValues;
+    private final ForkJoinPool pool;
+    private final boolean incremental;
+    private final TomlSymbols symbols;
+    private final boolean deduplicateStrings;
+    private final boolean offsetDateTimes;
+    private final boolean indexKeys;
+
+    ParsingPolicy(boolean lazyValues, ForkJoinPool pool, boolean incremental, TomlSymbols symbols, boolean deduplicateStrings, boolean offsetDateTimes,
+                  boolean indexKeys) {
+        this.lazyValues = lazyValues;
+        this.pool = pool;
+        this.incremental = incremental;
+        this.symbols = symbols;
+        this.deduplicateStrings = deduplicateStrings;
+        this.offsetDateTimes = offsetDateTimes;
+        this.indexKeys = indexKeys;
+    }
+
+    boolean isLazyValues() {
+        return this.lazyValues;
+    }
+
+    /**
+     * @return the pool on which sections of a document are parsed, or null if documents are parsed sequentially
+     */
+    ForkJoinPool getPool() {
+        return this.pool;
+    }
+
+    boolean isIncremental() {
+        return this.incremental;
+    }
+
+    /**
+     * @return the key names shared with other documents, or null
+     */
+    TomlSymbols getSymbols() {
+        return this.symbols;
+    }
+
+    boolean isDeduplicateStrings() {
+        return this.deduplicateStrings;
+    }
+
+    /**
+     * @return true if offset date-times are read as {@link java.time.OffsetDateTime}s rather than {@link java.util.Date}s
+     */
+    boolean isOffsetDateTimes() {
+        return this.offsetDateTimes;
+    }
+
+    /**
+     * @return true if the full keys of a document are indexed once it has been read
+     */
+    boolean isIndexKeys() {
+        return this.indexKeys;
+    }
+}
@@ -19,15 +19,14 @@ class PrimitiveArrayValueWriter extends ArrayValueWriter {
         context.write('[');
         context.writeArrayDelimiterPadding();
 
-        boolean first = true;
         ValueWriter firstWriter = null;
 
         for (Object value : values) {
-            if (first) {
-                firstWriter = WRITERS.findWriterFor(value);
-                first = false;
+            final ValueWriter writer = WRITERS.findWriterFor(value);
+
+            if (firstWriter == null) {
+                firstWriter = writer;
             } else {
-                final ValueWriter writer = WRITERS.findWriterFor(value);
                 if (writer != firstWriter) {
                     throw new IllegalStateException(
                         context.getContextPath() +
@@ -38,7 +37,7 @@ class PrimitiveArrayValueWriter extends ArrayValueWriter {
                 context.write(", ");
             }
 
-            WRITERS.findWriterFor(value).write(value, context);
+            writer.write(value, context);
         }
 
         context.writeArrayDelimiterPadding();
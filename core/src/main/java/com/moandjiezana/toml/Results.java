@@ -133,8 +133,13 @@ class Results {
     final Errors errors = new Errors();
     private final Set<String> tables = new HashSet<>();
     private final Deque<Container> stack = new ArrayDeque<Container>();
+    private final Symbols symbols;
 
-    Results() {
+    /**
+     * @param symbols where table names are interned
+     */
+    Results(Symbols symbols) {
+      this.symbols = symbols;
       this.stack.push(new Container.Table(""));
     }
 
@@ -146,9 +151,9 @@ class Results {
             if (path == null) {
               this.startTable(key, line);
             } else if (path.isEmpty()) {
-              this.startTables(Identifier.from(key, null), line);
+              this.startTables(Identifier.key(key), line);
             } else {
-              this.startTables(Identifier.from(path, null), line);
+              this.startTables(Identifier.table(path), line);
             }
             @SuppressWarnings("unchecked")
             final Map<String, Object> valueMap = (Map<String, Object>) value;
@@ -175,7 +180,7 @@ class Results {
 
         final Keys.Key[] tableParts = Keys.split(tableName);
         for (int i = 0; i < tableParts.length; i++) {
-            final String tablePart = tableParts[i].name;
+            final String tablePart = this.symbols.key(tableParts[i].name);
             final Container currentContainer = this.stack.peek();
 
             if (currentContainer.get(tablePart) instanceof final Container.TableArray currentTableArray) {
@@ -213,7 +218,7 @@ class Results {
 
         final Keys.Key[] tableParts = Keys.split(tableName);
         for (int i = 0; i < tableParts.length; i++) {
-            final String tablePart = tableParts[i].name;
+            final String tablePart = this.symbols.key(tableParts[i].name);
             final Container currentContainer = this.stack.peek();
             if (Objects.requireNonNull(currentContainer).get(tablePart) instanceof Container) {
                 final Container nextTable = (Container) currentContainer.get(tablePart);
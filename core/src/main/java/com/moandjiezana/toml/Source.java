@@ -0,0 +1,195 @@
+package com.moandjiezana.toml;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * The characters of a TOML document, addressed by their absolute index in the document.
+ * <p>
+ * Readers must call {@link #has(int)} before reading an index they have not seen yet, as a Source may only load its input on demand.
+ */
+abstract class Source {
+
+    /**
+     * @return true if index is within the document, loading more input if necessary
+     */
+    abstract boolean has(int index);
+
+    /**
+     * @param index must have been checked with {@link #has(int)}
+     */
+    abstract char charAt(int index);
+
+    abstract String substring(int start, int end);
+
+    /**
+     * Appends the characters from start to end to sb, as sb.append(substring(start, end)) without the intermediate String.
+     */
+    void appendTo(StringBuilder sb, int start, int end) {
+        for (int i = start; i < end; i++) {
+            sb.append(this.charAt(i));
+        }
+    }
+
+    /**
+     * Signals that characters before index will not be read again.
+     */
+    void release(int index) {
+    }
+
+    boolean startsWith(String prefix, int index) {
+        for (int i = 0; i < prefix.length(); i++) {
+            if (!this.has(index + i) || this.charAt(index + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return the index of the first occurrence of c at or after from, or -1
+     */
+    int indexOf(char c, int from) {
+        for (int i = from; this.has(i); i++) {
+            if (this.charAt(i) == c) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * @return the text from start to the end of the document
+     */
+    String rest(int start) {
+        int end = start;
+        while (this.has(end)) {
+            end++;
+        }
+
+        return this.substring(start, end);
+    }
+
+    /**
+     * A document that is already held in memory.
+     */
+    static class Text extends Source {
+        private final String s;
+
+        Text(String s) {
+            this.s = s;
+        }
+
+        @Override
+        boolean has(int index) {
+            return index < this.s.length();
+        }
+
+        @Override
+        char charAt(int index) {
+            return this.s.charAt(index);
+        }
+
+        @Override
+        String substring(int start, int end) {
+            return this.s.substring(start, end);
+        }
+
+        @Override
+        void appendTo(StringBuilder sb, int start, int end) {
+            sb.append(this.s, start, end);
+        }
+
+        @Override
+        boolean startsWith(String prefix, int index) {
+            return this.s.startsWith(prefix, index);
+        }
+
+        @Override
+        int indexOf(char c, int from) {
+            return this.s.indexOf(c, from);
+        }
+
+        @Override
+        String rest(int start) {
+            return this.s.substring(start);
+        }
+    }
+
+    /**
+     * Pulls a document from a {@link Reader} through a sliding window. Released characters are dropped whenever more input is needed, so the window only
+     * grows when a single statement does not fit in it.
+     */
+    static class Stream extends Source {
+        private final Reader reader;
+        private char[] buffer = new char[8192];
+        private int offset;
+        private int limit;
+        private int released;
+        private boolean eof;
+
+        Stream(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        boolean has(int index) {
+            while (index >= this.offset + this.limit) {
+                if (this.eof) {
+                    return false;
+                }
+
+                this.fill();
+            }
+
+            return true;
+        }
+
+        @Override
+        char charAt(int index) {
+            return this.buffer[index - this.offset];
+        }
+
+        @Override
+        String substring(int start, int end) {
+            return new String(this.buffer, start - this.offset, end - start);
+        }
+
+        @Override
+        void appendTo(StringBuilder sb, int start, int end) {
+            sb.append(this.buffer, start - this.offset, end - start);
+        }
+
+        @Override
+        void release(int index) {
+            this.released = Math.max(this.released, index);
+        }
+
+        private void fill() {
+            final int shift = Math.min(this.released - this.offset, this.limit);
+            if (shift > 0) {
+                System.arraycopy(this.buffer, shift, this.buffer, 0, this.limit - shift);
+                this.offset += shift;
+                this.limit -= shift;
+            }
+
+            if (this.limit == this.buffer.length) {
+                this.buffer = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+            }
+
+            try {
+                final int read = this.reader.read(this.buffer, this.limit, this.buffer.length - this.limit);
+                if (read == -1) {
+                    this.eof = true;
+                } else {
+                    this.limit += read;
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
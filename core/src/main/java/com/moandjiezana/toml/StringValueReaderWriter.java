@@ -0,0 +1,262 @@
+package com.moandjiezana.toml;
+
+import java.net.URI;
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class StringValueReaderWriter implements ValueReader, ValueWriter {
+
+    static final StringValueReaderWriter STRING_VALUE_READER_WRITER = new StringValueReaderWriter();
+    private static final String NEWLINE_SEPERATOR = System.getProperty("line.separator");
+
+    private static final String[] specialCharacterEscapes = new String[93];
+
+    static {
+        specialCharacterEscapes['\b'] = "\\b";
+        specialCharacterEscapes['\t'] = "\\t";
+        specialCharacterEscapes['\n'] = "\\n";
+        specialCharacterEscapes['\f'] = "\\f";
+        specialCharacterEscapes['\r'] = "\\r";
+        specialCharacterEscapes['"'] = "\\\"";
+        specialCharacterEscapes['\\'] = "\\\\";
+    }
+
+    @Override
+    public boolean canRead(Source s, int index) {
+        return s.charAt(index) == '"';
+    }
+
+    @Override
+    public Object read(Source s, AtomicInteger index, Context context) {
+        final int startIndex = index.get() + 1;
+        int i = startIndex;
+
+        while (s.has(i) && s.charAt(i) != '"' && s.charAt(i) != '\\') {
+            i++;
+        }
+
+        if (s.has(i) && s.charAt(i) == '"') {
+            index.set(i);
+            return s.substring(startIndex, i);
+        }
+
+        final StringBuilder sb = new StringBuilder(i - startIndex + 16);
+        int runStart = startIndex;
+
+        for (; s.has(i); i++) {
+            final char c = s.charAt(i);
+
+            if (c == '"') {
+                s.appendTo(sb, runStart, i);
+                index.set(i);
+                return sb.toString();
+            } else if (c == '\\') {
+                s.appendTo(sb, runStart, i);
+                final int escapeEnd = unescape(s, i, sb);
+
+                if (escapeEnd == -1) {
+                    return this.invalid(s, startIndex, i, index, context);
+                }
+
+                i = escapeEnd;
+                runStart = i + 1;
+            }
+        }
+
+        index.set(i);
+        final Results.Errors errors = new Results.Errors();
+        errors.unterminated(context.identifier().getName(), s.rest(startIndex - 1), context.line().get());
+        return errors;
+    }
+
+    /**
+     * Only accepts single-line strings whose escapes are all valid.
+     */
+    @Override
+    public int skip(Source s, int index) {
+        for (int i = index + 1; s.has(i); i++) {
+            final char c = s.charAt(i);
+
+            if (c == '"') {
+                return i;
+            } else if (c == '\n') {
+                return -1;
+            } else if (c == '\\') {
+                i = unescape(s, i, null);
+
+                if (i == -1) {
+                    return -1;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Decodes the escape sequence that starts with the backslash at index. Unicode escapes outside the Basic Multilingual Plane become surrogate pairs.
+     *
+     * @param sb receives the decoded character, unless it is null
+     * @return the index of the last character of the sequence, or -1 if it is not a valid escape
+     */
+    static int unescape(Source s, int index, StringBuilder sb) {
+        if (!s.has(index + 1)) {
+            return -1;
+        }
+
+        final char c = s.charAt(index + 1);
+
+        if (c == 'u' || c == 'U') {
+            final int digits = c == 'u' ? 4 : 8;
+            int codePoint = 0;
+
+            for (int i = index + 2; i < index + 2 + digits; i++) {
+                final int digit = s.has(i) ? Character.digit(s.charAt(i), 16) : -1;
+
+                if (digit == -1) {
+                    return -1;
+                }
+
+                codePoint = codePoint << 4 | digit;
+            }
+
+            if (!Character.isValidCodePoint(codePoint) || codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+                return -1;
+            }
+
+            if (sb != null) {
+                sb.appendCodePoint(codePoint);
+            }
+
+            return index + 1 + digits;
+        }
+
+        final char decoded = switch (c) {
+            case 'b' -> '\b';
+            case 't' -> '\t';
+            case 'n' -> '\n';
+            case 'f' -> '\f';
+            case 'r' -> '\r';
+            case '"' -> '"';
+            case '\\' -> '\\';
+            default -> 0;
+        };
+
+        if (decoded == 0) {
+            return -1;
+        }
+
+        if (sb != null) {
+            sb.append(decoded);
+        }
+
+        return index + 1;
+    }
+
+    /**
+     * Reports the string as an invalid value and moves index to its closing quote, or to the end of the line if there is none.
+     */
+    private Object invalid(Source s, int startIndex, int invalidIndex, AtomicInteger index, Context context) {
+        int end = invalidIndex;
+
+        while (s.has(end) && s.charAt(end) != '\n' && !(s.charAt(end) == '"' && s.charAt(end - 1) != '\\')) {
+            end++;
+        }
+
+        index.set(end);
+        final Results.Errors errors = new Results.Errors();
+        errors.invalidValue(context.identifier().getName(), s.substring(startIndex, end), context.line().get());
+        return errors;
+    }
+
+    /**
+     * Decodes the Unicode escapes in a quoted key, leaving the other escapes as they are.
+     */
+    String replaceUnicodeCharacters(String value) {
+        final Source s = new Source.Text(value);
+        StringBuilder sb = null;
+        int runStart = 0;
+
+        for (int i = value.indexOf('\\'); i != -1 && i < value.length() - 1; i = value.indexOf('\\', i + 2)) {
+            final char next = value.charAt(i + 1);
+
+            if (next == 'u' || next == 'U') {
+                if (sb == null) {
+                    sb = new StringBuilder(value.length());
+                }
+
+                sb.append(value, runStart, i);
+                runStart = i;
+                final int end = unescape(s, i, sb);
+
+                if (end != -1) {
+                    runStart = end + 1;
+                    i = end - 1;
+                }
+            }
+        }
+
+        return sb == null ? value : sb.append(value, runStart, value.length()).toString();
+    }
+
+    @Override
+    public boolean canWrite(Object value) {
+        return value instanceof String || value instanceof Character || value instanceof URL || value instanceof URI || value instanceof Enum;
+    }
+
+    @Override
+    public void write(Object value, WriterContext context) {
+        final String literal = value.toString();
+
+        if (literal.contains(NEWLINE_SEPERATOR)) {
+            context.write("'''" + NEWLINE_SEPERATOR);
+            this.escapeUnicodeMultiLine(value.toString(), context);
+            context.write("'''");
+        } else {
+            context.write("\"");
+            this.escapeUnicode(value.toString(), context);
+            context.write("\"");
+        }
+    }
+
+    @Override
+    public boolean isPrimitiveType() {
+        return true;
+    }
+
+    private void escapeUnicode(String in, WriterContext context) {
+        for (int i = 0; i < in.length(); i++) {
+            final int codePoint = in.codePointAt(i);
+            if (codePoint < specialCharacterEscapes.length && specialCharacterEscapes[codePoint] != null) {
+                context.write(specialCharacterEscapes[codePoint]);
+            } else {
+                context.write(in.charAt(i));
+            }
+        }
+    }
+
+    private void escapeUnicodeMultiLine(String in, WriterContext context) {
+        final String[] lines = in.split(NEWLINE_SEPERATOR);
+
+        for (final String line : lines) {
+            for (int i = 0; i < line.length(); i++) {
+                final int codePoint = line.codePointAt(i);
+                if (codePoint < specialCharacterEscapes.length && specialCharacterEscapes[codePoint] != null) {
+                    context.write(specialCharacterEscapes[codePoint]);
+                } else {
+                    context.write(line.charAt(i));
+                }
+            }
+
+            context.write(NEWLINE_SEPERATOR);
+        }
+    }
+
+    private StringValueReaderWriter() {
+    }
+
+    @Override
+    public String toString() {
+        return "string";
+    }
+}
@@ -0,0 +1,149 @@
+package com.moandjiezana.toml;
+
+/**
+ * Interns the key names of a single document, so that a key repeated in every element of a table array is held once, and looks them up straight from the
+ * {@link Source} so that repeated keys do not allocate. New names are also interned in a {@link TomlSymbols} shared by several documents, if there is one.
+ * <p>
+ * Not thread-safe: each parser has its own instance.
+ */
+class Symbols {
+
+    private static final int MAX_KEY_LENGTH = 128;
+    private static final int MAX_VALUE_LENGTH = 32;
+
+    private final TomlSymbols shared;
+    private final boolean deduplicateStrings;
+    private String[] table;
+    private int size;
+
+    Symbols(ParsingPolicy parsingPolicy) {
+        this(parsingPolicy.getSymbols(), parsingPolicy.isDeduplicateStrings());
+    }
+
+    /**
+     * @param shared             may be null
+     * @param deduplicateStrings if short String values should be interned as well
+     */
+    Symbols(TomlSymbols shared, boolean deduplicateStrings) {
+        this.shared = shared;
+        this.deduplicateStrings = deduplicateStrings;
+    }
+
+    /**
+     * @return the characters of s from start, inclusive, to end, exclusive
+     */
+    String key(Source s, int start, int end) {
+        final int length = end - start;
+
+        if (length > MAX_KEY_LENGTH) {
+            return s.substring(start, end);
+        }
+
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + s.charAt(i);
+        }
+
+        if (this.table != null) {
+            final int mask = this.table.length - 1;
+
+            for (int slot = mix(hash) & mask; this.table[slot] != null; slot = (slot + 1) & mask) {
+                final String candidate = this.table[slot];
+
+                if (candidate.hashCode() == hash && candidate.length() == length && matches(candidate, s, start)) {
+                    return candidate;
+                }
+            }
+        }
+
+        return this.add(this.shared != null ? this.shared.intern(s.substring(start, end)) : s.substring(start, end));
+    }
+
+    String key(String name) {
+        if (name.length() > MAX_KEY_LENGTH) {
+            return name;
+        }
+
+        final String symbol = this.find(name);
+
+        if (symbol != null) {
+            return symbol;
+        }
+
+        return this.add(this.shared != null ? this.shared.intern(name) : name);
+    }
+
+    /**
+     * @return an equal String that was read before, if value is a short String and String values are deduplicated. Otherwise, value.
+     */
+    Object value(Object value) {
+        if (!this.deduplicateStrings || !(value instanceof String) || ((String) value).length() > MAX_VALUE_LENGTH) {
+            return value;
+        }
+
+        final String symbol = this.find((String) value);
+
+        return symbol != null ? symbol : this.add((String) value);
+    }
+
+    private String find(String name) {
+        if (this.table == null) {
+            return null;
+        }
+
+        final int mask = this.table.length - 1;
+
+        for (int slot = mix(name.hashCode()) & mask; this.table[slot] != null; slot = (slot + 1) & mask) {
+            if (this.table[slot].equals(name)) {
+                return this.table[slot];
+            }
+        }
+
+        return null;
+    }
+
+    private String add(String symbol) {
+        if (this.table == null) {
+            this.table = new String[64];
+        } else if (2 * (this.size + 1) > this.table.length) {
+            final String[] previous = this.table;
+            this.table = new String[previous.length * 2];
+
+            for (String existing : previous) {
+                if (existing != null) {
+                    this.insert(existing);
+                }
+            }
+        }
+
+        this.insert(symbol);
+        this.size++;
+
+        return symbol;
+    }
+
+    private void insert(String symbol) {
+        final int mask = this.table.length - 1;
+        int slot = mix(symbol.hashCode()) & mask;
+
+        while (this.table[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+
+        this.table[slot] = symbol;
+    }
+
+    private static boolean matches(String candidate, Source s, int start) {
+        for (int i = 0; i < candidate.length(); i++) {
+            if (candidate.charAt(i) != s.charAt(start + i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
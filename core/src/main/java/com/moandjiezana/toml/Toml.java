@@ -0,0 +1,1119 @@
+package com.moandjiezana.toml;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p>Provides access to the keys and tables in a TOML data source.</p>
+ *
+ * <p>All getters can fall back to default values if they have been provided as a constructor argument.
+ * Getters for simple values (String, Date, etc.) will return null if no matching key exists. {@link #getList(String)}, {@link #getTable(String)} and {@link
+ * #getTables(String)} return empty values if there is no matching key.</p>
+ *
+ * <p>All read methods throw an {@link IllegalStateException} if the TOML is incorrect.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre><code>
+ * Toml toml = new Toml().read(getTomlFile());
+ * String name = toml.getString("name");
+ * Long port = toml.getLong("server.ip"); // compound key. Is equivalent to:
+ * Long port2 = toml.getTable("server").getLong("ip");
+ * MyConfig config = toml.to(MyConfig.class);
+ * </code></pre>
+ */
+public class Toml {
+
+    static final Gson BUILT_IN_GSON = JavaTimeTypeAdapter.registerAll(new GsonBuilder()).create();
+    private static Gson DEFAULT_GSON = BUILT_IN_GSON;
+
+    public static void init(Gson gson) {
+        DEFAULT_GSON = gson;
+    }
+
+    public static class Builder {
+        private Toml defaults;
+        private boolean lazyValues = false;
+        private ForkJoinPool pool;
+        private boolean incremental = false;
+        private TomlSymbols symbols;
+        private boolean deduplicateStrings = false;
+        private boolean offsetDateTimes = false;
+        private boolean indexKeys = false;
+
+        /**
+         * @param defaults fallback values used when the requested key or table is not present in the TOML source that has been read.
+         * @return this Toml.Builder instance
+         */
+        public Toml.Builder defaults(Toml defaults) {
+            this.defaults = defaults;
+
+            return this;
+        }
+
+        /**
+         * Strings, numbers and dates are checked while reading, but only decoded the first time they are requested. Reading is then faster when only a
+         * few keys are used. A String source is kept in memory for as long as the Toml instance or one of its tables holds values that have not been
+         * decoded yet. Other sources only keep the text of each such value.
+         *
+         * @return this Toml.Builder instance
+         */
+        public Toml.Builder lazyValues() {
+            this.lazyValues = true;
+
+            return this;
+        }
+
+        /**
+         * Large documents are split at their top-level table headers, and the parts are parsed concurrently on pool. The result, including any error, is
+         * the same as that of a sequential parse. Only applies to Strings, byte arrays, ByteBuffers and files: Readers and InputStreams are always read
+         * sequentially.
+         *
+         * @param pool where parts of documents are parsed
+         * @return this Toml.Builder instance
+         */
+        public Toml.Builder parallel(ForkJoinPool pool) {
+            this.pool = pool;
+
+            return this;
+        }
+
+        /**
+         * Same as {@link #parallel(ForkJoinPool)} on the {@link ForkJoinPool#commonPool()}.
+         *
+         * @return this Toml.Builder instance
+         */
+        public Toml.Builder parallel() {
+            return this.parallel(ForkJoinPool.commonPool());
+        }
+
+        /**
+         * Documents read from a String are kept along with the parsed statements of each of their top-level tables, so that {@link Toml#update(String)}
+         * and {@link Toml#edit(int, int, String)} only need to parse the tables that have changed.
+         *
+         * @return this Toml.Builder instance
+         */
+        public Toml.Builder incremental() {
+            this.incremental = true;
+
+            return this;
+        }
+
+        /**
+         * Key names that have already been read by other documents using the same symbols are shared with them, instead of being held once per document.
+         *
+         * @param symbols shared by all the documents whose keys should be shared
+         * @return this Toml.Builder instance
+         */
+        public Toml.Builder symbols(TomlSymbols symbols) {
+            this.symbols = symbols;
+
+            return this;
+        }
+
+        /**
+         * Short String values that occur several times in a document, such as enumerated values in a table array, are only held once. Does not apply to
+         * values decoded lazily.
+         *
+         * @return this Toml.Builder instance
+         */
+        public Toml.Builder deduplicateStrings() {
+            this.deduplicateStrings = true;
+
+            return this;
+        }
+
+        /**
+         * Offset date-times are read as {@link OffsetDateTime}s, which keep their offset and nanoseconds, instead of {@link Date}s, which only hold
+         * milliseconds since the epoch. {@link Toml#getDate(String)} converts them back.
+         *
+         * @return this Toml.Builder instance
+         */
+        public Toml.Builder offsetDateTimes() {
+            this.offsetDateTimes = true;
+
+            return this;
+        }
+
+        /**
+         * Once a document has been read, all its keys are indexed by their full name, such as <code>a.b[2].c</code>, including those of the tables in
+         * table arrays. A lookup is then a single hash table lookup instead of one per table, and {@link Toml#getKeys(String)} returns a view of the
+         * index. The index holds the full name of every key, so it takes more memory than the document itself when keys are deeply nested.
+         *
+         * @return this Toml.Builder instance
+         */
+        public Toml.Builder indexKeys() {
+            this.indexKeys = true;
+
+            return this;
+        }
+
+        public Toml build() {
+            final ParsingPolicy parsingPolicy = new ParsingPolicy(this.lazyValues, this.pool, this.incremental, this.symbols, this.deduplicateStrings,
+                this.offsetDateTimes, this.indexKeys);
+
+            return new Toml(this.defaults, new HashMap<>(), parsingPolicy);
+        }
+    }
+
+    private Map<String, Object> values;
+    private final Toml defaults;
+    private final ParsingPolicy parsingPolicy;
+    private TomlSections.Snapshot snapshot;
+    private TomlIndex index;
+
+    /**
+     * Creates Toml instance with no defaults.
+     */
+    public Toml() {
+        this(null);
+    }
+
+    /**
+     * @param defaults fallback values used when the requested key or table is not present in the TOML source that has been read.
+     */
+    public Toml(Toml defaults) {
+        this(defaults, new HashMap<>(), ParsingPolicy.DEFAULT);
+    }
+
+    /**
+     * Populates the current Toml instance with values from file, as {@link #read(Path)} does.
+     *
+     * @param file The File to be read. Expected to be encoded as UTF-8.
+     * @return this instance
+     * @throws IllegalStateException If file contains invalid TOML
+     */
+    public Toml read(File file) {
+        return this.read(file.toPath());
+    }
+
+    /**
+     * <p>Populates the current Toml instance with values from the file at path.</p>
+     *
+     * <p>Files larger than 1 MB are memory-mapped and decoded as they are parsed, so they are never copied onto the heap as a whole. Smaller files are
+     * read onto the heap. A mapping lasts until its buffer is garbage-collected, and until then Windows does not let the file be deleted or replaced, so
+     * files that are mapped may stay locked for a while after they have been read.</p>
+     *
+     * @param path The file to be read. Expected to be encoded as UTF-8. A leading byte order mark is skipped.
+     * @return this instance
+     * @throws IllegalStateException If the file is not valid UTF-8 or contains invalid TOML
+     */
+    public Toml read(Path path) {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                return this.read(Channels.newReader(channel, StandardCharsets.UTF_8));
+            }
+
+            return this.read(contents(channel));
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Files up to this size are read onto the heap rather than memory-mapped, so that the config files that editors and deployments rewrite in place
+     * are not held by a mapping.
+     */
+    static final long MAPPING_THRESHOLD = 1024 * 1024;
+
+    /**
+     * @return the contents of channel, which must be at most {@link Integer#MAX_VALUE} bytes long. Memory-mapped beyond {@link #MAPPING_THRESHOLD}.
+     */
+    static ByteBuffer contents(FileChannel channel) throws IOException {
+        final long size = channel.size();
+
+        if (size > MAPPING_THRESHOLD) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            // Until the whole file has been read, or it turns out to have been truncated
+        }
+
+        return buffer.flip();
+    }
+
+    /**
+     * Populates the current Toml instance with values from UTF-8 encoded bytes. A leading byte order mark is skipped.
+     *
+     * @param bytes Expected to be encoded as UTF-8.
+     * @return this instance
+     * @throws IllegalStateException If bytes is not valid UTF-8 or contains invalid TOML
+     */
+    public Toml read(byte[] bytes) {
+        return this.read(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Populates the current Toml instance with values from the remaining UTF-8 encoded bytes of buffer. A leading byte order mark is skipped.
+     *
+     * @param buffer Expected to be encoded as UTF-8. Its position is not modified.
+     * @return this instance
+     * @throws IllegalStateException If buffer is not valid UTF-8 or contains invalid TOML
+     */
+    public Toml read(ByteBuffer buffer) {
+        if (this.parsingPolicy.getPool() != null) {
+            return this.read(TomlSections.run(buffer, this.parsingPolicy));
+        }
+
+        return this.read(new Source.Stream(new ByteBufferReader(buffer.duplicate())));
+    }
+
+    /**
+     * Populates the current Toml instance with values from inputStream.
+     *
+     * @param inputStream Closed after it has been read. Expected to be encoded as UTF-8.
+     * @return this instance
+     * @throws IllegalStateException If file contains invalid TOML
+     */
+    public Toml read(InputStream inputStream) {
+        try (final InputStreamReader inputStreamReader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            return this.read(inputStreamReader);
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Populates the current Toml instance with values from reader. The reader is consumed incrementally, so the whole document is never held in memory.
+     *
+     * @param reader Closed after it has been read.
+     * @return this instance
+     * @throws IllegalStateException If file contains invalid TOML
+     */
+    public Toml read(Reader reader) {
+        try (final Reader closeable = reader) {
+            return this.read(new Source.Stream(closeable));
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Populates the current Toml instance with values from otherToml.
+     *
+     * @return this instance
+     */
+    @SuppressWarnings("unchecked")
+    public Toml read(Toml otherToml) {
+        this.values = otherToml.parsingPolicy.isLazyValues() && !this.parsingPolicy.isLazyValues()
+            ? (Map<String, Object>) otherToml.export(otherToml.values)
+            : otherToml.values;
+        this.snapshot = null;
+        this.index = this.parsingPolicy.isIndexKeys() ? TomlIndex.build(this.values) : null;
+
+        return this;
+    }
+
+    /**
+     * Populates the current Toml instance with values from tomlString.
+     *
+     * @param tomlString String to be read.
+     * @return this instance
+     * @throws IllegalStateException If tomlString is not valid TOML
+     */
+    public Toml read(String tomlString) throws IllegalStateException {
+        if (this.parsingPolicy.isIncremental()) {
+            return this.read(tomlString, null);
+        }
+
+        if (this.parsingPolicy.getPool() != null) {
+            return this.read(TomlSections.run(tomlString, this.parsingPolicy));
+        }
+
+        return this.read(new Source.Text(tomlString));
+    }
+
+    /**
+     * Reads a new version of the document this instance was read from. If this instance was built with {@link Builder#incremental()}, only the top-level
+     * tables whose text has changed are parsed, and the values of the others are shared with this instance.
+     *
+     * @param tomlString the whole new document
+     * @return a new Toml instance with the same defaults and options as this one. This instance is not modified.
+     * @throws IllegalStateException If tomlString is not valid TOML
+     */
+    public Toml update(String tomlString) {
+        return new Toml(this.defaults, new HashMap<>(), this.parsingPolicy).read(tomlString, this.snapshot);
+    }
+
+    /**
+     * Same as {@link #update(String)}, with the document this instance was read from, in which the characters from start to end have been replaced.
+     *
+     * @param start       the index of the first character to replace, inclusive
+     * @param end         the index of the last character to replace, exclusive
+     * @param replacement may be empty to delete characters
+     * @return a new Toml instance with the same defaults and options as this one. This instance is not modified.
+     * @throws IllegalStateException If this instance was not read from a String with {@link Builder#incremental()}, or if the edited document is not valid
+     *                               TOML
+     */
+    public Toml edit(int start, int end, String replacement) {
+        if (this.snapshot == null) {
+            throw new IllegalStateException("Only a Toml instance read from a String with Toml.Builder.incremental() can be edited");
+        }
+
+        final String text = this.snapshot.text;
+
+        return this.update(text.substring(0, start) + replacement + text.substring(end));
+    }
+
+    private Toml read(String tomlString, TomlSections.Snapshot previous) {
+        if (!this.parsingPolicy.isIncremental()) {
+            return this.read(tomlString);
+        }
+
+        final TomlSections.Snapshot snapshot = TomlSections.snapshot(tomlString, previous, this.parsingPolicy);
+
+        if (snapshot == null) {
+            this.read(new Source.Text(tomlString));
+            this.snapshot = TomlSections.Snapshot.unparsed(tomlString);
+
+            return this;
+        }
+
+        this.read(snapshot.results(this.parsingPolicy));
+        this.snapshot = snapshot;
+
+        return this;
+    }
+
+    private Toml read(Source source) {
+        return this.read(TomlParser.run(source, this.parsingPolicy));
+    }
+
+    private Toml read(Results results) {
+        if (results.errors.hasErrors()) {
+            throw new IllegalStateException(results.errors.toString());
+        }
+
+        this.snapshot = null;
+        this.values = results.consume();
+        this.index = this.parsingPolicy.isIndexKeys() ? TomlIndex.build(this.values) : null;
+
+        return this;
+    }
+
+    public String getString(String key) {
+        return (String) this.get(key);
+    }
+
+    public String getString(String key, String defaultValue) {
+        final String val = this.getString(key);
+        return val == null ? defaultValue : val;
+    }
+
+    /**
+     * @param path a compiled TOML key
+     * @return the value at path, or <code>null</code> if it is not found
+     */
+    public String getString(TomlPath path) {
+        return (String) this.get(path);
+    }
+
+    public Long getLong(String key) {
+        return (Long) this.get(key);
+    }
+
+    public Long getLong(String key, Long defaultValue) {
+        final Long val = this.getLong(key);
+        return val == null ? defaultValue : val;
+    }
+
+    /**
+     * @param path a compiled TOML key
+     * @return the value at path, or <code>null</code> if it is not found
+     */
+    public Long getLong(TomlPath path) {
+        return (Long) this.get(path);
+    }
+
+    /**
+     * Unlike {@link #getLong(String, Long)}, neither the value nor the default is boxed.
+     *
+     * @param key          a TOML key
+     * @param defaultValue returned if the key is not found
+     * @return the value of key
+     */
+    public long getLongValue(String key, long defaultValue) {
+        return this.getLongValue(TomlPath.compile(key), defaultValue);
+    }
+
+    /**
+     * @param path         a compiled TOML key
+     * @param defaultValue returned if the path is not found
+     * @return the value at path
+     */
+    public long getLongValue(TomlPath path, long defaultValue) {
+        final Object value = this.get(path);
+        return value == null ? defaultValue : (Long) value;
+    }
+
+    /**
+     * @param key          a TOML key
+     * @param defaultValue returned if the key is not found
+     * @return the value of key
+     * @throws ArithmeticException If the value does not fit in an int
+     */
+    public int getIntValue(String key, int defaultValue) {
+        return this.getIntValue(TomlPath.compile(key), defaultValue);
+    }
+
+    /**
+     * @param path         a compiled TOML key
+     * @param defaultValue returned if the path is not found
+     * @return the value at path
+     * @throws ArithmeticException If the value does not fit in an int
+     */
+    public int getIntValue(TomlPath path, int defaultValue) {
+        final Object value = this.get(path);
+        return value == null ? defaultValue : Math.toIntExact((Long) value);
+    }
+
+    /**
+     * @param key a TOML key
+     * @param <T> type of list items
+     * @return <code>null</code> if the key is not found. The list cannot be modified, whatever the type of its items, as it is shared by every caller
+     * of this Toml instance.
+     */
+    public <T> List<T> getList(String key) {
+        return this.getList(TomlPath.compile(key));
+    }
+
+    /**
+     * @param path a compiled TOML key
+     * @param <T>  type of list items
+     * @return <code>null</code> if the path is not found. The list cannot be modified, as for {@link #getList(String)}.
+     */
+    public <T> List<T> getList(TomlPath path) {
+        @SuppressWarnings("unchecked")
+        final List<T> list = (List<T>) this.export(this.get(path));
+
+        return list;
+    }
+
+    /**
+     * @param key          a TOML key
+     * @param defaultValue a list of default values
+     * @param <T>          type of list items
+     * @return <code>null</code> is the key is not found
+     */
+    public <T> List<T> getList(String key, List<T> defaultValue) {
+        final List<T> list = this.getList(key);
+
+        return list != null ? list : defaultValue;
+    }
+
+    /**
+     * Arrays of integers are held as a long[], so this avoids boxing each element, as {@link #getList(String)} does.
+     *
+     * @param key a TOML key
+     * @return a new array, or <code>null</code> if the key is not found
+     * @throws ClassCastException If the value is not an array of integers
+     */
+    public long[] getLongArray(String key) {
+        final Object value = this.get(key);
+
+        if (value instanceof LongList) {
+            return ((LongList) value).toLongArray();
+        }
+
+        final List<?> list = (List<?>) value;
+
+        if (list == null) {
+            return null;
+        }
+
+        final long[] array = new long[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = (Long) list.get(i);
+        }
+
+        return array;
+    }
+
+    /**
+     * Arrays of floats are held as a double[], so this avoids boxing each element, as {@link #getList(String)} does. Integers are widened to doubles.
+     *
+     * @param key a TOML key
+     * @return a new array, or <code>null</code> if the key is not found
+     * @throws ClassCastException If the value is not an array of floats or integers
+     */
+    public double[] getDoubleArray(String key) {
+        final Object value = this.get(key);
+
+        if (value instanceof DoubleList) {
+            return ((DoubleList) value).toDoubleArray();
+        }
+
+        if (value instanceof LongList) {
+            final long[] longs = ((LongList) value).toLongArray();
+            final double[] array = new double[longs.length];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = longs[i];
+            }
+
+            return array;
+        }
+
+        final List<?> list = (List<?>) value;
+
+        if (list == null) {
+            return null;
+        }
+
+        final double[] array = new double[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = toDouble(list.get(i));
+        }
+
+        return array;
+    }
+
+    public Boolean getBoolean(String key) {
+        return (Boolean) this.get(key);
+    }
+
+    public Boolean getBoolean(String key, Boolean defaultValue) {
+        final Boolean val = this.getBoolean(key);
+        return val == null ? defaultValue : val;
+    }
+
+    /**
+     * @param path a compiled TOML key
+     * @return the value at path, or <code>null</code> if it is not found
+     */
+    public Boolean getBoolean(TomlPath path) {
+        return (Boolean) this.get(path);
+    }
+
+    /**
+     * Unlike {@link #getBoolean(String, Boolean)}, the default is not boxed.
+     *
+     * @param key          a TOML key
+     * @param defaultValue returned if the key is not found
+     * @return the value of key
+     */
+    public boolean getBooleanValue(String key, boolean defaultValue) {
+        return this.getBooleanValue(TomlPath.compile(key), defaultValue);
+    }
+
+    /**
+     * @param path         a compiled TOML key
+     * @param defaultValue returned if the path is not found
+     * @return the value at path
+     */
+    public boolean getBooleanValue(TomlPath path, boolean defaultValue) {
+        final Object value = this.get(path);
+        return value == null ? defaultValue : (Boolean) value;
+    }
+
+    /**
+     * @param key a TOML key
+     * @return the value at key as it was read: a String, Long, Double, Boolean, date, immutable List for arrays or Map for tables, or <code>null</code> if
+     * the key is not found
+     */
+    public Object getObject(String key) {
+        return this.export(this.get(key));
+    }
+
+    /**
+     * @param key a TOML key
+     * @return the offset date-time at key, also if it was read as an {@link OffsetDateTime}, or <code>null</code> if the key is not found
+     */
+    public Date getDate(String key) {
+        return this.getDate(TomlPath.compile(key));
+    }
+
+    /**
+     * @param path a compiled TOML key
+     * @return the offset date-time at path, also if it was read as an {@link OffsetDateTime}, or <code>null</code> if the path is not found
+     */
+    public Date getDate(TomlPath path) {
+        final Object value = this.get(path);
+
+        return value instanceof OffsetDateTime ? Date.from(((OffsetDateTime) value).toInstant()) : (Date) value;
+    }
+
+    public Date getDate(String key, Date defaultValue) {
+        final Date val = this.getDate(key);
+        return val == null ? defaultValue : val;
+    }
+
+    /**
+     * @param key a TOML key
+     * @return the offset date-time at key, or <code>null</code> if the key is not found. Unless it was read with {@link Builder#offsetDateTimes()}, its
+     * offset is UTC rather than the one in the document.
+     */
+    public OffsetDateTime getOffsetDateTime(String key) {
+        final Object value = this.get(key);
+
+        return value instanceof Date ? OffsetDateTime.ofInstant(((Date) value).toInstant(), ZoneOffset.UTC) : (OffsetDateTime) value;
+    }
+
+    /**
+     * @param key a TOML key
+     * @return the date-time without an offset at key, such as <code>1979-05-27T07:32:00</code>, or <code>null</code> if the key is not found
+     */
+    public LocalDateTime getLocalDateTime(String key) {
+        return (LocalDateTime) this.get(key);
+    }
+
+    /**
+     * @param key a TOML key
+     * @return the date without a time at key, such as <code>1979-05-27</code>, or <code>null</code> if the key is not found
+     */
+    public LocalDate getLocalDate(String key) {
+        return (LocalDate) this.get(key);
+    }
+
+    /**
+     * @param key a TOML key
+     * @return the time without a date at key, such as <code>07:32:00</code>, or <code>null</code> if the key is not found
+     */
+    public LocalTime getLocalTime(String key) {
+        return (LocalTime) this.get(key);
+    }
+
+    /**
+     * Integers are widened to doubles, as whole floats are often written as integers, such as <code>ratio = 2</code>. Before 0.7.4, they threw a
+     * ClassCastException.
+     *
+     * @param key a TOML key
+     * @return the float at key, or the integer at key widened to a double, or <code>null</code> if the key is not found
+     * @throws ClassCastException If the value is neither a float nor an integer
+     */
+    public Double getDouble(String key) {
+        return toDouble(this.get(key));
+    }
+
+    public Double getDouble(String key, Double defaultValue) {
+        final Double val = this.getDouble(key);
+        return val == null ? defaultValue : val;
+    }
+
+    /**
+     * @param path a compiled TOML key
+     * @return the value at path, an integer being widened to a double as for {@link #getDouble(String)}, or <code>null</code> if it is not found
+     */
+    public Double getDouble(TomlPath path) {
+        return toDouble(this.get(path));
+    }
+
+    /**
+     * Unlike {@link #getDouble(String, Double)}, neither the value nor the default is boxed.
+     *
+     * @param key          a TOML key
+     * @param defaultValue returned if the key is not found
+     * @return the value of key, an integer being widened to a double
+     */
+    public double getDoubleValue(String key, double defaultValue) {
+        return this.getDoubleValue(TomlPath.compile(key), defaultValue);
+    }
+
+    /**
+     * @param path         a compiled TOML key
+     * @param defaultValue returned if the path is not found
+     * @return the value at path
+     */
+    public double getDoubleValue(TomlPath path, double defaultValue) {
+        final Object value = this.get(path);
+        return value == null ? defaultValue : toDouble(value);
+    }
+
+    /**
+     * @param key A table name, not including square brackets.
+     * @return A new Toml instance or <code>null</code> if no value is found for key.
+     */
+    public Toml getTable(String key) {
+        return this.getTable(TomlPath.compile(key));
+    }
+
+    /**
+     * @param path A compiled table name.
+     * @return A new Toml instance or <code>null</code> if no value is found for path.
+     */
+    @SuppressWarnings("unchecked")
+    public Toml getTable(TomlPath path) {
+        final Map<String, Object> map = (Map<String, Object>) this.get(path);
+
+        return map != null ? new Toml(null, map, this.parsingPolicy) : null;
+    }
+
+    /**
+     * @param key Name of array of tables, not including square brackets.
+     * @return A {@link List} of Toml instances or <code>null</code> if no value is found for key.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Toml> getTables(String key) {
+        final List<Map<String, Object>> tableArray = (List<Map<String, Object>>) this.get(key);
+
+        if (tableArray == null) {
+            return null;
+        }
+
+        final ArrayList<Toml> tables = new ArrayList<>();
+
+        for (Map<String, Object> table : tableArray) {
+            tables.add(new Toml(null, table, this.parsingPolicy));
+        }
+
+        return tables;
+    }
+
+    /**
+     * @param key a key name, can be compound (eg. a.b.c)
+     * @return true if key is present
+     */
+    public boolean contains(String key) {
+        return this.get(key) != null;
+    }
+
+    /**
+     * @param path a compiled key name
+     * @return true if path is present
+     */
+    public boolean contains(TomlPath path) {
+        return this.getValue(path) != null;
+    }
+
+    /**
+     * @param key a key name, can be compound (eg. a.b.c)
+     * @return true if key is present and is a primitive
+     */
+    public boolean containsPrimitive(String key) {
+        final Object object = this.get(key);
+
+        return object != null && !(object instanceof Map) && !(object instanceof List);
+    }
+
+    /**
+     * @param key a key name, can be compound (eg. a.b.c)
+     * @return true if key is present and is a table
+     */
+    public boolean containsTable(String key) {
+        final Object object = this.get(key);
+
+        return (object instanceof Map);
+    }
+
+    /**
+     * @param key a key name, can be compound (eg. a.b.c)
+     * @return true if key is present and is a table array
+     */
+    public boolean containsTableArray(String key) {
+        final Object object = this.get(key);
+
+        return (object instanceof List);
+    }
+
+    /**
+     * Looks up several keys at once. The tables that keys have in common are only looked up once, and the values are returned in a single array.
+     *
+     * @param projection the keys to look up, built once and reused
+     * @return the values of the keys, by their position in projection
+     */
+    public TomlProjection.Values getAll(TomlProjection projection) {
+        final Object[] values = new Object[projection.size()];
+
+        if (this.index == null) {
+            projection.walk(this.values, values);
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                values[i] = this.index != null ? this.getValue(projection.path(i)) : this.defaults != null ? this.defaults.getValue(projection.path(i)) : null;
+            }
+
+            values[i] = LazyValue.resolve(values[i]);
+        }
+
+        return new TomlProjection.Values(values, this.parsingPolicy.isLazyValues());
+    }
+
+    /**
+     * Same as {@link #getAll(TomlProjection)}, for keys that are only looked up together once.
+     *
+     * @param paths compiled key names
+     * @return the values of the keys, by their position in paths
+     */
+    public TomlProjection.Values getAll(TomlPath... paths) {
+        return this.getAll(TomlProjection.of(paths));
+    }
+
+    /**
+     * @return the full names of all the keys of values in this instance, such as <code>a.b[2].c</code>, excluding those of tables and table arrays.
+     * Defaults are not included.
+     */
+    public List<String> getKeys() {
+        if (this.index != null) {
+            return this.index.leaves();
+        }
+
+        final List<String> keys = new ArrayList<>();
+        TomlIndex.collectLeaves("", this.values, keys);
+
+        return Collections.unmodifiableList(keys);
+    }
+
+    /**
+     * @param key a key name, can be compound (eg. a.b.c)
+     * @return the full names of the keys of the values under key, such as <code>a.b[2].c</code>, excluding those of tables and table arrays. If key
+     * is a value, only key itself. <code>null</code> if key is not found. Defaults are not included.
+     */
+    public List<String> getKeys(String key) {
+        return this.getKeys(TomlPath.compile(key));
+    }
+
+    /**
+     * @param path a compiled key name
+     * @return the same as {@link #getKeys(String)}
+     */
+    public List<String> getKeys(TomlPath path) {
+        if (this.index != null) {
+            final List<String> keys = this.index.leaves(path.path);
+
+            if (keys != null) {
+                return keys;
+            }
+        }
+
+        final Object value = this.find(path);
+
+        if (value == null) {
+            return null;
+        }
+
+        final List<String> keys = new ArrayList<>();
+        TomlIndex.collectLeaves(path.path, value, keys);
+
+        return Collections.unmodifiableList(keys);
+    }
+
+    public boolean isEmpty() {
+        return this.values.isEmpty();
+    }
+
+    /**
+     * <p>
+     * Populates an instance of targetClass with the values of this Toml instance. The target's field names must match keys or tables. Keys not present in
+     * targetClass will be ignored.
+     * </p>
+     *
+     * <p>Tables are recursively converted to custom classes or to {@link Map Map&lt;String, Object&gt;}.</p>
+     *
+     * <p>In addition to straight-forward conversion of TOML primitives, the following are also available:</p>
+     *
+     * <ul>
+     *  <li>Integer -&gt; int, long (or wrapper), {@link java.math.BigInteger}</li>
+     *  <li>Float -&gt; float, double (or wrapper), {@link java.math.BigDecimal}</li>
+     *  <li>One-letter String -&gt; char, {@link Character}</li>
+     *  <li>String -&gt; {@link String}, enum, {@link java.net.URI}, {@link java.net.URL}</li>
+     *  <li>Multiline and Literal Strings -&gt; {@link String}</li>
+     *  <li>Array -&gt; {@link List}, {@link Set}, array. The generic type can be anything that can be converted.</li>
+     *  <li>Table -&gt; Custom class, record, {@link Map Map&lt;String, Object&gt;}</li>
+     *  <li>Offset date-time -&gt; {@link Date}, {@link OffsetDateTime}</li>
+     *  <li>Local date-time, local date, local time -&gt; {@link LocalDateTime}, {@link LocalDate}, {@link LocalTime}</li>
+     * </ul>
+     *
+     * <p>Classes annotated with {@link TomlMapped} are read by the code generated for them, unless a value has another type than the field it is read
+     * into, such as a string for a boolean. The document is then bound as if the class were not annotated.</p>
+     *
+     * <p>Other values are bound straight from the parsed tables. A value that cannot be bound directly, such as the string 'true' for a boolean field, is
+     * converted to JSON and bound by Gson on its own, without changing how the rest of the document is bound. The whole document is only bound by Gson when a
+     * Gson instance has been set with {@link #init(Gson)}, or when the target class itself uses Gson annotations or cannot be instantiated directly.</p>
+     *
+     * <p>Values bound to {@link Object}, such as the values of a {@link Map Map&lt;String, Object&gt;}, keep their TOML types: Long for integers, Double
+     * for floats, List for arrays and Map for tables. They are copies, so changing them does not change this Toml instance. Gson, which was used before
+     * 0.7.4, turned them into Doubles and its own Map implementation, and still does for a document bound by Gson.</p>
+     *
+     * @param targetClass Class to deserialize TOML to.
+     * @param <T>         type of targetClass.
+     * @return A new instance of targetClass.
+     */
+    public <T> T to(Class<T> targetClass) {
+        final TomlMapper<T> mapper = TomlMappers.find(targetClass);
+
+        if (mapper != null && mapper.canRead(this)) {
+            return mapper.read(this);
+        }
+
+        if (DEFAULT_GSON == BUILT_IN_GSON && targetClass != JsonElement.class) {
+            try {
+                return TomlBinder.bind(this.defaults != null ? this.toMap() : this.values, targetClass);
+            } catch (TomlBinder.Unsupported e) {
+                // Left to Gson
+            }
+        }
+
+        final JsonElement json = DEFAULT_GSON.toJsonTree(this.toMap());
+
+        if (targetClass == JsonElement.class) {
+            return targetClass.cast(json);
+        }
+
+        return DEFAULT_GSON.fromJson(json, targetClass);
+    }
+
+    public Map<String, Object> toMap() {
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> valuesCopy = this.parsingPolicy.isLazyValues() ? (Map<String, Object>) this.export(this.values) : new HashMap<>(this.values);
+
+        if (this.defaults != null) {
+            for (Map.Entry<String, Object> entry : this.defaults.values.entrySet()) {
+                if (!valuesCopy.containsKey(entry.getKey())) {
+                    valuesCopy.put(entry.getKey(), this.defaults.export(entry.getValue()));
+                }
+            }
+        }
+
+        return valuesCopy;
+    }
+
+    /**
+     * @return a {@link Set} of Map.Entry instances. Modifications to the {@link Set} are not reflected in this Toml instance. Entries are immutable, so {@link
+     * Map.Entry#setValue(Object)} throws an UnsupportedOperationException.
+     */
+    public Set<Map.Entry<String, Object>> entrySet() {
+        final Set<Map.Entry<String, Object>> entries = new LinkedHashSet<>();
+
+        for (Map.Entry<String, Object> entry : this.values.entrySet()) {
+            final Class<?> entryClass = entry.getValue().getClass();
+
+            if (Map.class.isAssignableFrom(entryClass)) {
+                entries.add(new Entry(entry.getKey(), this.getTable(entry.getKey())));
+            } else if (List.class.isAssignableFrom(entryClass)) {
+                final List<?> value = (List<?>) entry.getValue();
+                if (!value.isEmpty() && value.get(0) instanceof Map) {
+                    entries.add(new Entry(entry.getKey(), this.getTables(entry.getKey())));
+                } else {
+                    entries.add(new Entry(entry.getKey(), value));
+                }
+            } else {
+                entries.add(new Entry(entry.getKey(), LazyValue.resolve(entry.getValue())));
+            }
+        }
+
+        return entries;
+    }
+
+    private record Entry(String key, Object value) implements Map.Entry<String, Object> {
+
+        @Override
+        public String getKey() {
+            return this.key;
+        }
+
+        @Override
+        public Object getValue() {
+            return this.value;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            throw new UnsupportedOperationException("TOML entry values cannot be changed.");
+        }
+
+    }
+
+    /**
+     * @return value, with its nested values decoded if it may contain {@link LazyValue}s
+     */
+    private Object export(Object value) {
+        return this.parsingPolicy.isLazyValues() ? LazyValue.resolveAll(value) : value;
+    }
+
+    /**
+     * Integers are widened, as TOML writes whole floats, such as ratio = 2, as integers.
+     */
+    static Double toDouble(Object value) {
+        return value instanceof Long ? Double.valueOf((Long) value) : (Double) value;
+    }
+
+    private Object get(String key) {
+        return this.get(TomlPath.compile(key));
+    }
+
+    private Object get(TomlPath path) {
+        return LazyValue.resolve(this.getValue(path));
+    }
+
+    private Object getValue(TomlPath path) {
+        final Object value = this.find(path);
+
+        return value == null && this.defaults != null ? this.defaults.getValue(path) : value;
+    }
+
+    /**
+     * @return the value at path in this instance, without looking at defaults
+     */
+    @SuppressWarnings("unchecked")
+    private Object find(TomlPath path) {
+        final Object value = this.index != null ? this.index.get(path.path) : this.values.get(path.path);
+
+        if (value != null) {
+            return value;
+        }
+
+        Object current = this.values;
+
+        for (int i = 0; i < path.names.length; i++) {
+            final int index = path.indices[i];
+
+            if (index == -1 && current instanceof Map) {
+                final Object remainder = ((Map<String, Object>) current).get(path.remainders[i]);
+
+                if (remainder != null) {
+                    return remainder;
+                }
+            }
+
+            //noinspection ConstantConditions
+            current = ((Map<String, Object>) current).get(path.names[i]);
+
+            if (index > -1 && current != null) {
+                if (index >= ((List<?>) current).size()) {
+                    return null;
+                }
+
+                current = ((List<?>) current).get(index);
+            }
+
+            if (current == null) {
+                return null;
+            }
+        }
+
+        return current;
+    }
+
+    private Toml(Toml defaults, Map<String, Object> values, ParsingPolicy parsingPolicy) {
+        this.values = values;
+        this.defaults = defaults;
+        this.parsingPolicy = parsingPolicy;
+    }
+}
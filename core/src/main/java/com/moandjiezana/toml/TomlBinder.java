@@ -0,0 +1,568 @@
+package com.moandjiezana.toml;
+
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * Binds parsed tables straight to objects, records, collections and the other types listed in {@link Toml#to(Class)}, without going through JSON. The
+ * way each class is bound is worked out once and kept in a {@link ClassValue}.
+ * <p>
+ * Anything the binder does not handle the way Gson does, such as Gson annotations, classes without a no-argument constructor or unusual conversions,
+ * throws an {@link Unsupported}. A field or record component whose value throws it, such as the string 'true' for a boolean, is left to Gson on its
+ * own, so that it is converted as Gson would and the rest of the document keeps the representation it has when bound directly: a single value must
+ * not turn the Longs of a {@code Map<String, Object>} elsewhere into Gson's Doubles. Only a class that cannot be bound at all, whatever the data, is
+ * left to Gson as a whole.
+ */
+final class TomlBinder {
+
+    static final class Unsupported extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Unsupported() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final Unsupported UNSUPPORTED = new Unsupported();
+
+    private static final ClassValue<Converter> CLASS_BINDERS = new ClassValue<Converter>() {
+        @Override
+        protected Converter computeValue(Class<?> type) {
+            try {
+                return type.isRecord() ? recordBinder(type) : objectBinder(type);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return value -> {
+                    throw UNSUPPORTED;
+                };
+            }
+        }
+    };
+
+    /**
+     * @throws Unsupported If Gson should do the conversion instead
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T bind(Map<String, Object> values, Class<T> targetClass) {
+        return (T) converter(targetClass).convert(values);
+    }
+
+    @FunctionalInterface
+    private interface Converter {
+        /**
+         * @param value a value of a parsed document, possibly a {@link LazyValue}
+         */
+        Object convert(Object value);
+    }
+
+    /**
+     * Converts the value of a field or record component, leaving it to Gson when it cannot be converted directly.
+     */
+    private static Converter memberConverter(Type type) {
+        final Converter gsonConverter = value -> Toml.BUILT_IN_GSON.fromJson(Toml.BUILT_IN_GSON.toJsonTree(LazyValue.resolveAll(value)), type);
+        final Converter converter;
+
+        try {
+            converter = converter(type);
+        } catch (Unsupported e) {
+            return gsonConverter;
+        }
+
+        return value -> {
+            try {
+                return converter.convert(value);
+            } catch (Unsupported e) {
+                return gsonConverter.convert(value);
+            }
+        };
+    }
+
+    private static Converter converter(Type type) {
+        if (type instanceof Class) {
+            return classConverter((Class<?>) type);
+        }
+
+        if (type instanceof GenericArrayType) {
+            final Type componentType = ((GenericArrayType) type).getGenericComponentType();
+            final Class<?> componentClass = componentType instanceof ParameterizedType ? (Class<?>) ((ParameterizedType) componentType).getRawType() : null;
+
+            if (componentClass == null) {
+                throw UNSUPPORTED;
+            }
+
+            return arrayConverter(componentClass, converter(componentType));
+        }
+
+        if (!(type instanceof ParameterizedType)) {
+            throw UNSUPPORTED;
+        }
+
+        final ParameterizedType parameterizedType = (ParameterizedType) type;
+        final Class<?> rawType = (Class<?>) parameterizedType.getRawType();
+        final Type[] arguments = parameterizedType.getActualTypeArguments();
+
+        if (Collection.class.isAssignableFrom(rawType) || rawType == Iterable.class) {
+            return collectionConverter(rawType, converter(arguments[0]));
+        }
+
+        if (Map.class.isAssignableFrom(rawType)) {
+            if (arguments[0] != String.class) {
+                throw UNSUPPORTED;
+            }
+
+            return mapConverter(rawType, converter(arguments[1]));
+        }
+
+        throw UNSUPPORTED;
+    }
+
+    private static Converter classConverter(Class<?> type) {
+        if (type == Object.class) {
+            return TomlBinder::copy;
+        } else if (type == String.class) {
+            return TomlBinder::toText;
+        } else if (type == long.class || type == Long.class) {
+            return value -> toLong(value);
+        } else if (type == int.class || type == Integer.class) {
+            return value -> toIntExact(toLong(value));
+        } else if (type == short.class || type == Short.class) {
+            return value -> (short) checkRange(toLong(value), Short.MIN_VALUE, Short.MAX_VALUE);
+        } else if (type == byte.class || type == Byte.class) {
+            return value -> (byte) checkRange(toLong(value), Byte.MIN_VALUE, Byte.MAX_VALUE);
+        } else if (type == double.class || type == Double.class) {
+            return value -> toDouble(value);
+        } else if (type == float.class || type == Float.class) {
+            return value -> (float) toDouble(value);
+        } else if (type == boolean.class || type == Boolean.class) {
+            return value -> cast(value, Boolean.class);
+        } else if (type == char.class || type == Character.class) {
+            return TomlBinder::toCharacter;
+        } else if (type == BigInteger.class) {
+            return value -> BigInteger.valueOf(toLong(value));
+        } else if (type == BigDecimal.class) {
+            return TomlBinder::toBigDecimal;
+        } else if (type == Number.class) {
+            return value -> cast(value, Number.class);
+        } else if (type == URI.class) {
+            return TomlBinder::toUri;
+        } else if (type == URL.class) {
+            return TomlBinder::toUrl;
+        } else if (type == Date.class) {
+            return TomlBinder::toDate;
+        } else if (type == OffsetDateTime.class) {
+            return TomlBinder::toOffsetDateTime;
+        } else if (type == LocalDateTime.class || type == LocalDate.class || type == LocalTime.class) {
+            return value -> cast(value, type);
+        } else if (type.isEnum()) {
+            return enumConverter(type);
+        } else if (type.isArray()) {
+            return arrayConverter(type.getComponentType(), converter(type.getComponentType()));
+        } else if (Collection.class.isAssignableFrom(type) || type == Iterable.class) {
+            return collectionConverter(type, classConverter(Object.class));
+        } else if (Map.class.isAssignableFrom(type)) {
+            return mapConverter(type, classConverter(Object.class));
+        } else if (type.isPrimitive() || type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type.getName().startsWith("java.")) {
+            throw UNSUPPORTED;
+        }
+
+        return value -> CLASS_BINDERS.get(type).convert(value);
+    }
+
+    private static Converter collectionConverter(Class<?> type, Converter elementConverter) {
+        final Supplier<Collection<Object>> factory;
+
+        if (type.isAssignableFrom(ArrayList.class)) {
+            factory = ArrayList::new;
+        } else if (type.isAssignableFrom(LinkedHashSet.class)) {
+            factory = LinkedHashSet::new;
+        } else if (type == SortedSet.class || type == TreeSet.class) {
+            factory = TreeSet::new;
+        } else if (type == HashSet.class) {
+            factory = HashSet::new;
+        } else {
+            throw UNSUPPORTED;
+        }
+
+        return value -> {
+            final List<?> list = cast(value, List.class);
+            final Collection<Object> collection = factory.get();
+
+            for (Object element : list) {
+                collection.add(elementConverter.convert(element));
+            }
+
+            return collection;
+        };
+    }
+
+    private static Converter arrayConverter(Class<?> componentType, Converter elementConverter) {
+        if (componentType == long.class) {
+            return value -> value instanceof LongList ? ((LongList) value).toLongArray() : fillArray(componentType, elementConverter, value);
+        } else if (componentType == double.class) {
+            return value -> value instanceof DoubleList ? ((DoubleList) value).toDoubleArray() : fillArray(componentType, elementConverter, value);
+        }
+
+        return value -> fillArray(componentType, elementConverter, value);
+    }
+
+    private static Object fillArray(Class<?> componentType, Converter elementConverter, Object value) {
+        final List<?> list = cast(value, List.class);
+        final Object array = Array.newInstance(componentType, list.size());
+
+        for (int i = 0; i < list.size(); i++) {
+            Array.set(array, i, elementConverter.convert(list.get(i)));
+        }
+
+        return array;
+    }
+
+    private static Converter mapConverter(Class<?> type, Converter valueConverter) {
+        final Supplier<Map<String, Object>> factory;
+
+        if (type.isAssignableFrom(LinkedHashMap.class)) {
+            factory = LinkedHashMap::new;
+        } else if (type == SortedMap.class || type == TreeMap.class) {
+            factory = TreeMap::new;
+        } else if (type == HashMap.class) {
+            factory = HashMap::new;
+        } else {
+            throw UNSUPPORTED;
+        }
+
+        return value -> {
+            @SuppressWarnings("unchecked")
+            final Map<String, Object> table = cast(value, Map.class);
+            final Map<String, Object> map = factory.get();
+
+            for (Map.Entry<String, Object> entry : table.entrySet()) {
+                map.put(entry.getKey(), valueConverter.convert(entry.getValue()));
+            }
+
+            return map;
+        };
+    }
+
+    /**
+     * Unknown names are bound to null, as Gson does.
+     */
+    private static Converter enumConverter(Class<?> type) {
+        final Map<String, Object> constants = new HashMap<>();
+
+        for (Object constant : type.getEnumConstants()) {
+            final String name = ((Enum<?>) constant).name();
+
+            try {
+                if (type.getField(name).isAnnotationPresent(SerializedName.class)) {
+                    throw UNSUPPORTED;
+                }
+            } catch (NoSuchFieldException e) {
+                throw UNSUPPORTED;
+            }
+
+            constants.put(name, constant);
+        }
+
+        return value -> constants.get(cast(value, String.class));
+    }
+
+    /**
+     * Fields are set in the instance created by the class's no-argument constructor. Keys for which the class has no field are ignored, and fields for
+     * which there is no key keep their initial value.
+     */
+    private static Converter objectBinder(Class<?> type) throws ReflectiveOperationException {
+        checkAnnotations(type);
+
+        final Constructor<?> constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        final MethodHandle newInstance = MethodHandles.lookup().unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+
+        final List<String> names = new ArrayList<>();
+        final List<Converter> converters = new ArrayList<>();
+        final List<MethodHandle> setters = new ArrayList<>();
+
+        for (Class<?> cls = type; cls != Object.class; cls = cls.getSuperclass()) {
+            for (Field field : cls.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+
+                if (field.isAnnotationPresent(SerializedName.class) || field.isAnnotationPresent(JsonAdapter.class) || names.contains(field.getName())) {
+                    throw UNSUPPORTED;
+                }
+
+                field.setAccessible(true);
+                names.add(field.getName());
+                converters.add(memberConverter(field.getGenericType()));
+                setters.add(MethodHandles.lookup().unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class)));
+            }
+        }
+
+        final String[] fieldNames = names.toArray(new String[0]);
+        final Converter[] fieldConverters = converters.toArray(new Converter[0]);
+        final MethodHandle[] fieldSetters = setters.toArray(new MethodHandle[0]);
+
+        return value -> {
+            final Map<?, ?> table = cast(value, Map.class);
+
+            try {
+                final Object instance = newInstance.invokeExact();
+
+                for (int i = 0; i < fieldNames.length; i++) {
+                    final Object fieldValue = table.get(fieldNames[i]);
+
+                    if (fieldValue != null) {
+                        fieldSetters[i].invokeExact(instance, fieldConverters[i].convert(fieldValue));
+                    }
+                }
+
+                return instance;
+            } catch (Unsupported e) {
+                throw e;
+            } catch (Throwable e) {
+                throw UNSUPPORTED;
+            }
+        };
+    }
+
+    /**
+     * Records are created through their canonical constructor. Components for which there is no key get null, zero or false.
+     */
+    private static Converter recordBinder(Class<?> type) throws ReflectiveOperationException {
+        checkAnnotations(type);
+
+        final RecordComponent[] components = type.getRecordComponents();
+        final String[] names = new String[components.length];
+        final Converter[] converters = new Converter[components.length];
+        final Object[] defaults = new Object[components.length];
+        final Class<?>[] parameterTypes = new Class<?>[components.length];
+
+        for (int i = 0; i < components.length; i++) {
+            final RecordComponent component = components[i];
+
+            if (component.isAnnotationPresent(SerializedName.class) || component.isAnnotationPresent(JsonAdapter.class)) {
+                throw UNSUPPORTED;
+            }
+
+            names[i] = component.getName();
+            converters[i] = memberConverter(component.getGenericType());
+            parameterTypes[i] = component.getType();
+            defaults[i] = component.getType().isPrimitive() ? Array.get(Array.newInstance(component.getType(), 1), 0) : null;
+        }
+
+        final Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+        constructor.setAccessible(true);
+        final MethodHandle newInstance = MethodHandles.lookup().unreflectConstructor(constructor)
+            .asSpreader(Object[].class, components.length)
+            .asType(MethodType.methodType(Object.class, Object[].class));
+
+        return value -> {
+            final Map<?, ?> table = cast(value, Map.class);
+            final Object[] arguments = new Object[names.length];
+
+            for (int i = 0; i < names.length; i++) {
+                final Object componentValue = table.get(names[i]);
+                arguments[i] = componentValue != null ? converters[i].convert(componentValue) : defaults[i];
+            }
+
+            try {
+                return newInstance.invokeExact(arguments);
+            } catch (Throwable e) {
+                throw UNSUPPORTED;
+            }
+        };
+    }
+
+    private static void checkAnnotations(Class<?> type) {
+        if (type.isAnnotationPresent(JsonAdapter.class) || type.isMemberClass() && !Modifier.isStatic(type.getModifiers()) || type.isLocalClass()
+            || type.isAnonymousClass()) {
+            throw UNSUPPORTED;
+        }
+    }
+
+    private static <T> T cast(Object value, Class<T> type) {
+        final Object resolved = LazyValue.resolve(value);
+
+        if (!type.isInstance(resolved)) {
+            throw UNSUPPORTED;
+        }
+
+        return type.cast(resolved);
+    }
+
+    /**
+     * Values bound to Object keep the type they have in the document, but tables, arrays and dates are copied, so that changing the bound object does not
+     * change the document.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object copy(Object value) {
+        final Object resolved = LazyValue.resolve(value);
+
+        if (resolved instanceof Map) {
+            final Map<String, Object> table = (Map<String, Object>) resolved;
+            final Map<String, Object> map = new LinkedHashMap<>();
+
+            for (Map.Entry<String, Object> entry : table.entrySet()) {
+                map.put(entry.getKey(), copy(entry.getValue()));
+            }
+
+            return map;
+        } else if (resolved instanceof List) {
+            final List<?> array = (List<?>) resolved;
+            final List<Object> list = new ArrayList<>(array.size());
+
+            for (Object element : array) {
+                list.add(copy(element));
+            }
+
+            return list;
+        } else if (resolved instanceof Date) {
+            return new Date(((Date) resolved).getTime());
+        }
+
+        return resolved;
+    }
+
+    private static Object toText(Object value) {
+        final Object resolved = LazyValue.resolve(value);
+
+        if (resolved instanceof String) {
+            return resolved;
+        } else if (resolved instanceof Date) {
+            return ((Date) resolved).toInstant().toString();
+        } else if (resolved instanceof Map || resolved instanceof List) {
+            throw UNSUPPORTED;
+        }
+
+        return resolved.toString();
+    }
+
+    private static long toLong(Object value) {
+        return cast(value, Long.class);
+    }
+
+    private static int toIntExact(long value) {
+        return (int) checkRange(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    private static long checkRange(long value, long min, long max) {
+        if (value < min || value > max) {
+            throw UNSUPPORTED;
+        }
+
+        return value;
+    }
+
+    private static double toDouble(Object value) {
+        final Object resolved = LazyValue.resolve(value);
+
+        if (resolved instanceof Double) {
+            return (Double) resolved;
+        } else if (resolved instanceof Long) {
+            return (Long) resolved;
+        }
+
+        throw UNSUPPORTED;
+    }
+
+    private static Object toCharacter(Object value) {
+        final String s = cast(value, String.class);
+
+        if (s.length() != 1) {
+            throw UNSUPPORTED;
+        }
+
+        return s.charAt(0);
+    }
+
+    private static Object toBigDecimal(Object value) {
+        final Object resolved = LazyValue.resolve(value);
+
+        if (resolved instanceof Long) {
+            return BigDecimal.valueOf((Long) resolved);
+        } else if (resolved instanceof Double) {
+            return BigDecimal.valueOf((Double) resolved);
+        }
+
+        throw UNSUPPORTED;
+    }
+
+    private static Object toUri(Object value) {
+        try {
+            return new URI(cast(value, String.class));
+        } catch (URISyntaxException e) {
+            throw UNSUPPORTED;
+        }
+    }
+
+    private static Object toUrl(Object value) {
+        try {
+            return new URL(cast(value, String.class));
+        } catch (Exception e) {
+            throw UNSUPPORTED;
+        }
+    }
+
+    /**
+     * Dates are mutable, so each one is copied.
+     */
+    private static Object toDate(Object value) {
+        final Object resolved = LazyValue.resolve(value);
+
+        if (resolved instanceof Date) {
+            return new Date(((Date) resolved).getTime());
+        } else if (resolved instanceof OffsetDateTime) {
+            return Date.from(((OffsetDateTime) resolved).toInstant());
+        }
+
+        throw UNSUPPORTED;
+    }
+
+    private static Object toOffsetDateTime(Object value) {
+        final Object resolved = LazyValue.resolve(value);
+
+        if (resolved instanceof OffsetDateTime) {
+            return resolved;
+        } else if (resolved instanceof Date) {
+            return OffsetDateTime.ofInstant(((Date) resolved).toInstant(), ZoneOffset.UTC);
+        }
+
+        throw UNSUPPORTED;
+    }
+
+    private TomlBinder() {
+    }
+}
@@ -0,0 +1,417 @@
+package com.moandjiezana.toml;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.zip.CRC32C;
+
+/**
+ * <p>Keeps parsed TOML documents in memory, so that files that are read over and over are only parsed again once they have changed.</p>
+ *
+ * <p>A cached document is reused as long as its file has the same modification time and length as when it was parsed. As modification times may be too
+ * coarse to notice quick successive edits, {@link Builder#contentHash()} instead compares a checksum of the contents, which costs a read of the file but
+ * not a parse.</p>
+ *
+ * <p>When the cache is full, the least recently used documents are evicted first. Concurrent lookups of the same document that is not cached yet wait for
+ * a single parse.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre><code>
+ * TomlCache cache = new TomlCache.Builder().maximumWeight(16 * 1024 * 1024).build();
+ * Toml toml = cache.get(path);
+ * Toml defaults = cache.get(getClass().getResource("defaults.toml"));
+ * </code></pre>
+ */
+public class TomlCache {
+
+    public static class Builder {
+        private long maximumWeight = 32 * 1024 * 1024;
+        private int maximumSize = Integer.MAX_VALUE;
+        private boolean contentHash = false;
+
+        /**
+         * @param maximumWeight the total length in bytes of the source files of the cached documents, beyond which documents are evicted. Defaults to 32 MB.
+         * @return this TomlCache.Builder instance
+         */
+        public TomlCache.Builder maximumWeight(long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+
+            return this;
+        }
+
+        /**
+         * @param maximumSize the number of cached documents beyond which documents are evicted. Unbounded by default.
+         * @return this TomlCache.Builder instance
+         */
+        public TomlCache.Builder maximumSize(int maximumSize) {
+            this.maximumSize = maximumSize;
+
+            return this;
+        }
+
+        /**
+         * Cached documents are reused if the CRC32C checksum of their source is unchanged, whatever its modification time.
+         *
+         * @return this TomlCache.Builder instance
+         */
+        public TomlCache.Builder contentHash() {
+            this.contentHash = true;
+
+            return this;
+        }
+
+        public TomlCache build() {
+            return new TomlCache(this);
+        }
+    }
+
+    /**
+     * Counters since the cache was created.
+     *
+     * @param hits      lookups that returned a cached document, including those that waited for another thread to parse it
+     * @param misses    lookups that parsed a document, or waited for another thread to parse it and got its failure
+     * @param failures  parses that threw, which are counted once whatever the number of lookups waiting for them
+     * @param evictions documents removed to respect the maximum weight or size. Documents replaced by a newer version are not counted.
+     */
+    public record Stats(long hits, long misses, long failures, long evictions) {
+    }
+
+    private final long maximumWeight;
+    private final int maximumSize;
+    private final boolean contentHash;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    private long hits;
+    private long misses;
+    private long failures;
+    private long evictions;
+
+    /**
+     * Creates a cache with the default limits. Use {@link TomlCache.Builder} to change them.
+     */
+    public TomlCache() {
+        this(new Builder());
+    }
+
+    /**
+     * @param path The file to be read. Expected to be encoded as UTF-8.
+     * @return a new Toml instance whose values are shared with every other instance returned for the same version of the file, so they must not be modified
+     * @throws IllegalStateException If the file contains invalid TOML. Failures are not cached.
+     */
+    public Toml get(Path path) {
+        final BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+
+        final String key = path.toAbsolutePath().normalize().toString();
+
+        if (!this.contentHash) {
+            return this.get(key, new Version(attributes.lastModifiedTime().toMillis(), attributes.size(), 0), () -> new Toml().read(path));
+        }
+
+        final ByteBuffer bytes = contents(path);
+
+        return this.get(key, new Version(0, bytes.remaining(), hash(bytes)), () -> new Toml().read(bytes));
+    }
+
+    /**
+     * @param file The File to be read. Expected to be encoded as UTF-8.
+     * @return see {@link #get(Path)}
+     * @throws IllegalStateException If the file contains invalid TOML. Failures are not cached.
+     */
+    public Toml get(File file) {
+        return this.get(file.toPath());
+    }
+
+    /**
+     * Also accepts resources in a JAR file, such as those returned by {@link Class#getResource(String)}, whose modification time and length are those of the
+     * JAR entry.
+     *
+     * @param url The document to be read. Expected to be encoded as UTF-8.
+     * @return see {@link #get(Path)}
+     * @throws IllegalStateException If the document contains invalid TOML. Failures are not cached.
+     */
+    public Toml get(URL url) {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return this.get(Path.of(url.toURI()));
+            } catch (URISyntaxException | IllegalArgumentException exception) {
+                // Not a valid file URI, so read it like any other URL
+            }
+        }
+
+        final String key = url.toExternalForm();
+
+        if (!this.contentHash) {
+            return this.get(key, version(url), () -> new Toml().read(read(url)));
+        }
+
+        final byte[] bytes = read(url);
+
+        return this.get(key, new Version(0, bytes.length, hash(ByteBuffer.wrap(bytes))), () -> new Toml().read(bytes));
+    }
+
+    /**
+     * Removes the document read from path, if it is cached.
+     */
+    public void invalidate(Path path) {
+        this.invalidate(path.toAbsolutePath().normalize().toString());
+    }
+
+    /**
+     * Removes the document read from url, if it is cached.
+     */
+    public void invalidate(URL url) {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                this.invalidate(Path.of(url.toURI()));
+                return;
+            } catch (URISyntaxException | IllegalArgumentException exception) {
+                // Cached under its external form
+            }
+        }
+
+        this.invalidate(url.toExternalForm());
+    }
+
+    /**
+     * Removes all cached documents.
+     */
+    public synchronized void invalidateAll() {
+        this.entries.clear();
+        this.weight = 0;
+    }
+
+    /**
+     * @return the number of cached documents, including those being parsed
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(this.hits, this.misses, this.failures, this.evictions);
+    }
+
+    private TomlCache(Builder builder) {
+        this.maximumWeight = builder.maximumWeight;
+        this.maximumSize = builder.maximumSize;
+        this.contentHash = builder.contentHash;
+    }
+
+    private Toml get(String key, Version version, Loader loader) {
+        final Entry entry;
+        final boolean load;
+
+        synchronized (this) {
+            final Entry cached = this.entries.get(key);
+
+            if (cached != null && cached.version.equals(version)) {
+                entry = cached;
+                load = false;
+            } else {
+                entry = new Entry(version);
+                load = true;
+                this.misses++;
+                this.remove(key, cached);
+                this.entries.put(key, entry);
+            }
+        }
+
+        if (load) {
+            try {
+                entry.toml.complete(loader.load());
+            } catch (Throwable exception) {
+                // Errors too, such as a StackOverflowError on deeply nested arrays, or the lookups waiting for this entry would wait forever
+                entry.toml.completeExceptionally(exception);
+
+                synchronized (this) {
+                    this.failures++;
+                    this.remove(key, entry);
+                }
+
+                throw exception;
+            }
+
+            synchronized (this) {
+                if (this.entries.get(key) == entry) {
+                    entry.weight = Math.max(1, version.length);
+                    this.weight += entry.weight;
+                    this.evict();
+                }
+            }
+        }
+
+        final Toml toml;
+        try {
+            toml = entry.toml.join();
+        } catch (CompletionException exception) {
+            synchronized (this) {
+                this.misses++;
+            }
+
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+
+            if (exception.getCause() instanceof Error) {
+                throw (Error) exception.getCause();
+            }
+
+            throw exception;
+        }
+
+        if (!load) {
+            synchronized (this) {
+                this.hits++;
+            }
+        }
+
+        return new Toml().read(toml);
+    }
+
+    private synchronized void invalidate(String key) {
+        this.remove(key, this.entries.get(key));
+    }
+
+    /**
+     * Must be called while holding this instance's lock.
+     */
+    private void remove(String key, Entry entry) {
+        if (entry != null && this.entries.remove(key, entry)) {
+            this.weight -= entry.weight;
+        }
+    }
+
+    /**
+     * Must be called while holding this instance's lock. Documents that are still being parsed have no weight yet and are never evicted.
+     */
+    private void evict() {
+        final Iterator<Entry> iterator = this.entries.values().iterator();
+
+        while ((this.weight > this.maximumWeight || this.entries.size() > this.maximumSize) && iterator.hasNext()) {
+            final Entry entry = iterator.next();
+
+            if (entry.weight > 0) {
+                iterator.remove();
+                this.weight -= entry.weight;
+                this.evictions++;
+            }
+        }
+    }
+
+    private static ByteBuffer contents(Path path) {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalStateException(path + " is too large to be hashed");
+            }
+
+            return Toml.contents(channel);
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * The connection is closed before returning, as the document is not read when it is cached. JAR entries are looked up in a JarFile of their own, as
+     * closing a shared one would break other users of the JAR.
+     */
+    private static Version version(URL url) {
+        try {
+            final URLConnection connection = open(url);
+
+            if (connection instanceof JarURLConnection) {
+                final JarURLConnection jarConnection = (JarURLConnection) connection;
+
+                try (JarFile jarFile = jarConnection.getJarFile()) {
+                    final String entryName = jarConnection.getEntryName();
+                    final JarEntry entry = entryName != null ? jarFile.getJarEntry(entryName) : null;
+
+                    if (entry == null) {
+                        throw new FileNotFoundException(url.toExternalForm());
+                    }
+
+                    return new Version(entry.getTime(), entry.getSize(), 0);
+                }
+            }
+
+            try {
+                return new Version(connection.getLastModified(), connection.getContentLengthLong(), 0);
+            } finally {
+                try {
+                    connection.getInputStream().close();
+                } catch (IOException exception) {
+                    // No stream was opened, so there is nothing to close
+                }
+            }
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private static byte[] read(URL url) {
+        try (final InputStream inputStream = open(url).getInputStream()) {
+            return inputStream.readAllBytes();
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * @return a connection that does not use the JDK's shared JarFiles, so that closing its stream, or its JarFile, releases the JAR
+     */
+    private static URLConnection open(URL url) throws IOException {
+        final URLConnection connection = url.openConnection();
+
+        if (connection instanceof JarURLConnection) {
+            connection.setUseCaches(false);
+        }
+
+        return connection;
+    }
+
+    private static long hash(ByteBuffer bytes) {
+        final CRC32C crc = new CRC32C();
+        crc.update(bytes.duplicate());
+
+        return crc.getValue();
+    }
+
+    private record Version(long lastModified, long length, long hash) {
+    }
+
+    private static class Entry {
+        final Version version;
+        final CompletableFuture<Toml> toml = new CompletableFuture<>();
+        long weight;
+
+        Entry(Version version) {
+            this.version = version;
+        }
+    }
+
+    private interface Loader {
+        Toml load();
+    }
+}
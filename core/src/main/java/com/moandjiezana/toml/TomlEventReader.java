@@ -0,0 +1,212 @@
+package com.moandjiezana.toml;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Reads a TOML document one statement at a time, without building a {@link Toml} instance.</p>
+ *
+ * <p>Input is consumed as events are requested, so documents of any size can be scanned, filtered or transformed in constant memory, as long as no single
+ * value is too large to fit in it. Syntax is checked as the document is read, but duplicate keys and tables are not detected, as that would require
+ * remembering the whole document.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre><code>
+ * try (TomlEventReader reader = new TomlEventReader(path)) {
+ *   while (reader.hasNext()) {
+ *     if (reader.next() == TomlEventReader.Event.VALUE) {
+ *       System.out.println(reader.getName() + " = " + reader.getValue());
+ *     }
+ *   }
+ * }
+ * </code></pre>
+ */
+public class TomlEventReader implements Closeable {
+
+    public enum Event {
+        /**
+         * A table header, such as <code>[a.b]</code>. {@link TomlEventReader#getName()} returns <code>a.b</code>.
+         */
+        START_TABLE,
+        /**
+         * A new element of a table array, such as <code>[[a.b]]</code>. {@link TomlEventReader#getName()} returns <code>a.b</code>.
+         */
+        START_TABLE_ARRAY_ELEMENT,
+        /**
+         * The key of a key/value pair. Always followed by {@link #VALUE}.
+         */
+        KEY,
+        /**
+         * The value of the preceding {@link #KEY}. {@link TomlEventReader#getValue()} returns a String, Long, Double, Boolean, Date, LocalDateTime,
+         * LocalDate, LocalTime, List or, for inline tables, Map.
+         */
+        VALUE,
+        /**
+         * The end of the document. Always the last event.
+         */
+        END_DOCUMENT
+    }
+
+    private final TomlParser parser;
+    private final Results.Errors errors = new Results.Errors();
+    private final Closeable closeable;
+    private Event event;
+    private boolean valuePending;
+
+    /**
+     * @param tomlString String to be read.
+     */
+    public TomlEventReader(String tomlString) {
+        this(new Source.Text(tomlString), null);
+    }
+
+    /**
+     * @param reader Closed by {@link #close()}.
+     */
+    public TomlEventReader(Reader reader) {
+        this(new Source.Stream(reader), reader);
+    }
+
+    /**
+     * @param inputStream Closed by {@link #close()}. Expected to be encoded as UTF-8.
+     */
+    public TomlEventReader(InputStream inputStream) {
+        this(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param path The file to be read. As for {@link Toml#read(Path)}, it is memory-mapped if it is larger than 1 MB, and read into memory otherwise. It
+     *             is decoded as events are read. Expected to be encoded as UTF-8.
+     */
+    public TomlEventReader(Path path) {
+        this(open(path));
+    }
+
+    /**
+     * Reads the next event.
+     *
+     * @return the event, whose details are available through the getters until the next call
+     * @throws IllegalStateException If the statement that was read is not valid TOML
+     * @throws NoSuchElementException If {@link Event#END_DOCUMENT} has already been returned
+     */
+    public Event next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        if (this.valuePending) {
+            this.valuePending = false;
+            return this.event = Event.VALUE;
+        }
+
+        if (!this.parser.next()) {
+            if (this.errors.hasErrors()) {
+                throw new IllegalStateException(this.errors.toString());
+            }
+
+            return this.event = Event.END_DOCUMENT;
+        }
+
+        final Identifier identifier = this.parser.identifier();
+
+        if (identifier.isTable()) {
+            this.event = Event.START_TABLE;
+        } else if (identifier.isTableArray()) {
+            this.event = Event.START_TABLE_ARRAY_ELEMENT;
+        } else {
+            this.event = Event.KEY;
+            this.valuePending = true;
+        }
+
+        return this.event;
+    }
+
+    /**
+     * @return false once {@link Event#END_DOCUMENT} has been returned
+     */
+    public boolean hasNext() {
+        return this.event != Event.END_DOCUMENT;
+    }
+
+    /**
+     * @return the current event, or null if {@link #next()} has not been called yet
+     */
+    public Event getEvent() {
+        return this.event;
+    }
+
+    /**
+     * @return the name of the current table or key. Quoted keys keep their quotes.
+     * @throws IllegalStateException If the current event has no name
+     */
+    public String getName() {
+        if (this.event == null || this.event == Event.END_DOCUMENT) {
+            throw new IllegalStateException("No name for event " + this.event);
+        }
+
+        return this.parser.identifier().getBareName();
+    }
+
+    /**
+     * @return the value of the current key
+     * @throws IllegalStateException If the current event is not {@link Event#VALUE}
+     */
+    public Object getValue() {
+        if (this.event != Event.VALUE) {
+            throw new IllegalStateException("No value for event " + this.event);
+        }
+
+        return this.parser.value();
+    }
+
+    /**
+     * @return the line on which the current statement ends. It is the line on which it starts, unless a value spans several lines.
+     */
+    public int getLine() {
+        return this.parser.line().get();
+    }
+
+    @Override
+    public void close() {
+        if (this.closeable == null) {
+            return;
+        }
+
+        try {
+            this.closeable.close();
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private TomlEventReader(Source source, Closeable closeable) {
+        this.parser = new TomlParser(source, this.errors, ParsingPolicy.DEFAULT);
+        this.closeable = closeable;
+    }
+
+    private static Reader open(Path path) {
+        try {
+            final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+
+            if (channel.size() > Integer.MAX_VALUE) {
+                return Channels.newReader(channel, StandardCharsets.UTF_8);
+            }
+
+            // Small files are read rather than mapped, as Toml.read(Path) does, so that they are not left locked on Windows
+            try (final FileChannel closeable = channel) {
+                return new ByteBufferReader(Toml.contents(closeable));
+            }
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+}
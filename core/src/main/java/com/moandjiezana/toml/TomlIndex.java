@@ -0,0 +1,121 @@
+package com.moandjiezana.toml;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Every key of a document, from its tables down to its values, with its full name, such as <code>a.b[2].c</code>. The keys are laid out in
+ * depth-first order, so that the values under a table or table array are contiguous, and are found through a single {@link CompactTable} rather
+ * than table by table.
+ */
+class TomlIndex {
+
+    private final CompactTable nodes;
+    /**
+     * For each node, the range of leaves under it: the first at 2 * node, inclusive, the last at 2 * node + 1, exclusive
+     */
+    private final int[] leafRanges;
+    private final List<String> leaves;
+
+    static TomlIndex build(Map<String, Object> values) {
+        final Builder builder = new Builder();
+
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            builder.add(entry.getKey(), entry.getValue());
+        }
+
+        return new TomlIndex(builder);
+    }
+
+    /**
+     * @return the value at the full key, which may be a {@link LazyValue}, or null
+     */
+    Object get(String key) {
+        return this.nodes.get(key);
+    }
+
+    /**
+     * @return the full keys of the values under key, or of key itself if it is a value. Null if key is not found.
+     */
+    List<String> leaves(String key) {
+        final int node = this.nodes.indexOf(key);
+
+        return node > -1 ? this.leaves.subList(this.leafRanges[2 * node], this.leafRanges[2 * node + 1]) : null;
+    }
+
+    /**
+     * @return the full keys of all the values
+     */
+    List<String> leaves() {
+        return this.leaves;
+    }
+
+    /**
+     * Lists the same keys as {@link #leaves(String)}, for tables that are not indexed.
+     */
+    @SuppressWarnings("unchecked")
+    static void collectLeaves(String key, Object value, List<String> leaves) {
+        if (value instanceof Map) {
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                collectLeaves(key.isEmpty() ? entry.getKey() : key + "." + entry.getKey(), entry.getValue(), leaves);
+            }
+        } else if (isTableArray(value)) {
+            final List<?> tables = (List<?>) value;
+
+            for (int i = 0; i < tables.size(); i++) {
+                collectLeaves(key + "[" + i + "]", tables.get(i), leaves);
+            }
+        } else {
+            leaves.add(key);
+        }
+    }
+
+    private static boolean isTableArray(Object value) {
+        return value instanceof List && !((List<?>) value).isEmpty() && ((List<?>) value).get(0) instanceof Map;
+    }
+
+    private TomlIndex(Builder builder) {
+        this.nodes = new CompactTable(builder.keys.toArray(new String[0]), builder.values.toArray());
+        this.leafRanges = Arrays.copyOf(builder.leafRanges, builder.keys.size() * 2);
+        this.leaves = Collections.unmodifiableList(Arrays.asList(builder.leaves.toArray(new String[0])));
+    }
+
+    private static class Builder {
+        final List<String> keys = new ArrayList<>();
+        final List<Object> values = new ArrayList<>();
+        final List<String> leaves = new ArrayList<>();
+        int[] leafRanges = new int[64];
+
+        @SuppressWarnings("unchecked")
+        void add(String key, Object value) {
+            final int node = this.keys.size();
+            this.keys.add(key);
+            this.values.add(value);
+
+            if (this.leafRanges.length < 2 * node + 2) {
+                this.leafRanges = Arrays.copyOf(this.leafRanges, this.leafRanges.length * 2);
+            }
+
+            this.leafRanges[2 * node] = this.leaves.size();
+
+            if (value instanceof Map) {
+                for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                    this.add(key + "." + entry.getKey(), entry.getValue());
+                }
+            } else if (isTableArray(value)) {
+                final List<?> tables = (List<?>) value;
+
+                for (int i = 0; i < tables.size(); i++) {
+                    this.add(key + "[" + i + "]", tables.get(i));
+                }
+            } else {
+                this.leaves.add(key);
+            }
+
+            this.leafRanges[2 * node + 1] = this.leaves.size();
+        }
+    }
+}
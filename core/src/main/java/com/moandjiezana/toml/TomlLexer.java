@@ -0,0 +1,202 @@
+package com.moandjiezana.toml;
+
+import static com.moandjiezana.toml.StringValueReaderWriter.STRING_VALUE_READER_WRITER;
+
+/**
+ * Splits keys and table headers into tokens in a single forward pass. Values are not tokenized: after an {@link Token#EQUALS}, the next token is
+ * {@link Token#VALUE_START} and the caller reads the value with a {@link ValueReader}, then resumes with {@link #seek(int)}.
+ */
+class TomlLexer {
+
+    enum Token {
+        BARE_KEY,
+        QUOTED_KEY,
+        DOT,
+        LEFT_BRACKET,
+        DOUBLE_LEFT_BRACKET,
+        RIGHT_BRACKET,
+        DOUBLE_RIGHT_BRACKET,
+        EQUALS,
+        COMMA,
+        RIGHT_BRACE,
+        VALUE_START,
+        COMMENT,
+        NEWLINE,
+        EOF,
+        INVALID
+    }
+
+    private static final byte OTHER = 0;
+    private static final byte BARE = 1;
+    private static final byte WHITESPACE = 2;
+    private static final byte NEWLINE = 3;
+    private static final byte QUOTE = 4;
+    private static final byte DOT = 5;
+    private static final byte LEFT_BRACKET = 6;
+    private static final byte RIGHT_BRACKET = 7;
+    private static final byte EQUALS = 8;
+    private static final byte COMMA = 9;
+    private static final byte RIGHT_BRACE = 10;
+    private static final byte HASH = 11;
+
+    private static final byte[] CHAR_CLASSES = new byte[128];
+
+    static {
+        for (char c = 'A'; c <= 'Z'; c++) {
+            CHAR_CLASSES[c] = BARE;
+            CHAR_CLASSES[Character.toLowerCase(c)] = BARE;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CHAR_CLASSES[c] = BARE;
+        }
+        CHAR_CLASSES['_'] = BARE;
+        CHAR_CLASSES['-'] = BARE;
+        CHAR_CLASSES[' '] = WHITESPACE;
+        CHAR_CLASSES['\t'] = WHITESPACE;
+        CHAR_CLASSES['\r'] = WHITESPACE;
+        CHAR_CLASSES['\n'] = NEWLINE;
+        CHAR_CLASSES['"'] = QUOTE;
+        CHAR_CLASSES['\''] = QUOTE;
+        CHAR_CLASSES['.'] = DOT;
+        CHAR_CLASSES['['] = LEFT_BRACKET;
+        CHAR_CLASSES[']'] = RIGHT_BRACKET;
+        CHAR_CLASSES['='] = EQUALS;
+        CHAR_CLASSES[','] = COMMA;
+        CHAR_CLASSES['}'] = RIGHT_BRACE;
+        CHAR_CLASSES['#'] = HASH;
+    }
+
+    private final Source s;
+    private final Symbols symbols;
+    private int position;
+    private int start;
+    private boolean valueExpected;
+
+    TomlLexer(Source s, int position, Symbols symbols) {
+        this.s = s;
+        this.position = position;
+        this.symbols = symbols;
+    }
+
+    Token next() {
+        while (this.s.has(this.position) && classOf(this.s.charAt(this.position)) == WHITESPACE) {
+            this.position++;
+        }
+
+        this.start = this.position;
+
+        if (!this.s.has(this.position)) {
+            return Token.EOF;
+        }
+
+        final char c = this.s.charAt(this.position);
+        final byte charClass = classOf(c);
+
+        if (this.valueExpected && charClass != NEWLINE) {
+            this.valueExpected = false;
+            return Token.VALUE_START;
+        }
+
+        switch (charClass) {
+            case BARE:
+                do {
+                    this.position++;
+                } while (this.s.has(this.position) && classOf(this.s.charAt(this.position)) == BARE);
+                return Token.BARE_KEY;
+            case QUOTE:
+                return this.quotedKey(c);
+            case NEWLINE:
+                this.position++;
+                return Token.NEWLINE;
+            case HASH:
+                do {
+                    this.position++;
+                } while (this.s.has(this.position) && this.s.charAt(this.position) != '\n');
+                return Token.COMMENT;
+            case DOT:
+                this.position++;
+                return Token.DOT;
+            case LEFT_BRACKET:
+                return this.pair('[', Token.LEFT_BRACKET, Token.DOUBLE_LEFT_BRACKET);
+            case RIGHT_BRACKET:
+                return this.pair(']', Token.RIGHT_BRACKET, Token.DOUBLE_RIGHT_BRACKET);
+            case EQUALS:
+                this.position++;
+                this.valueExpected = true;
+                return Token.EQUALS;
+            case COMMA:
+                this.position++;
+                return Token.COMMA;
+            case RIGHT_BRACE:
+                this.position++;
+                return Token.RIGHT_BRACE;
+            default:
+                return Token.INVALID;
+        }
+    }
+
+    /**
+     * @return where the current token starts
+     */
+    int start() {
+        return this.start;
+    }
+
+    /**
+     * @return where the current token ends, exclusive
+     */
+    int end() {
+        return this.position;
+    }
+
+    /**
+     * Continues lexing from the given position, typically just after a value.
+     */
+    void seek(int position) {
+        this.position = position;
+        this.valueExpected = false;
+    }
+
+    /**
+     * @return the name of the current {@link Token#BARE_KEY} or {@link Token#QUOTED_KEY}, interned. Quoted keys keep their quotes.
+     */
+    String keyName() {
+        if (this.s.charAt(this.start) == '"') {
+            return this.symbols.key(STRING_VALUE_READER_WRITER.replaceUnicodeCharacters(this.s.substring(this.start, this.position)));
+        }
+
+        return this.symbols.key(this.s, this.start, this.position);
+    }
+
+    private Token quotedKey(char quote) {
+        for (int i = this.position + 1; this.s.has(i); i++) {
+            final char c = this.s.charAt(i);
+
+            if (c == quote) {
+                this.position = i + 1;
+                return Token.QUOTED_KEY;
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\\' && quote == '"') {
+                i++;
+            }
+        }
+
+        return Token.INVALID;
+    }
+
+    private Token pair(char c, Token single, Token pair) {
+        this.position++;
+
+        if (this.s.has(this.position) && this.s.charAt(this.position) == c) {
+            this.position++;
+            return pair;
+        }
+
+        return single;
+    }
+
+    private static byte classOf(char c) {
+        return c < CHAR_CLASSES.length ? CHAR_CLASSES[c] : OTHER;
+    }
+}
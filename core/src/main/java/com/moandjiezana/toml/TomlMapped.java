@@ -0,0 +1,20 @@
+package com.moandjiezana.toml;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Marks a class or record for which the toml4j-processor annotation processor generates a {@link TomlMapper}. {@link Toml#to(Class)} and
+ * {@link TomlWriter} then use the generated code, which reads and writes the fields directly, instead of reflection.</p>
+ *
+ * <p>Fields must not be private or final. Classes need a constructor without arguments that is not private. When a field has a type the processor
+ * cannot map, it warns and generates nothing, so the class is mapped through reflection as before.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface TomlMapped {
+}
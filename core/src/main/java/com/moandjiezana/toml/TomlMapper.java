@@ -0,0 +1,32 @@
+package com.moandjiezana.toml;
+
+import java.util.Map;
+
+/**
+ * Reads and writes instances of a class annotated with {@link TomlMapped}. Implementations are generated by the toml4j-processor annotation processor,
+ * in the package of the annotated class, with the name of the class followed by TomlMapper. Nested class names are joined by underscores, such as
+ * Outer_InnerTomlMapper.
+ *
+ * @param <T> the annotated class
+ */
+public interface TomlMapper<T> {
+
+    /**
+     * @param toml a table
+     * @return true if every value of toml that {@link #read(Toml)} uses has the type it expects and fits in its field. Otherwise, {@link Toml#to(Class)}
+     * binds toml as it would without the mapper, so that the same values are converted, and the same errors thrown, with or without it.
+     */
+    boolean canRead(Toml toml);
+
+    /**
+     * @param toml a table for which {@link #canRead(Toml)} is true
+     * @return a new instance holding the values of toml
+     */
+    T read(Toml toml);
+
+    /**
+     * @param value not null
+     * @return the fields of value, in declaration order, as {@link TomlWriter} writes them
+     */
+    Map<String, Object> write(T value);
+}
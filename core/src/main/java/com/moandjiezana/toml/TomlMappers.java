@@ -0,0 +1,42 @@
+package com.moandjiezana.toml;
+
+/**
+ * Finds the {@link TomlMapper} generated for a class, once per class.
+ */
+class TomlMappers {
+
+    private static final ClassValue<TomlMapper<?>> MAPPERS = new ClassValue<TomlMapper<?>>() {
+        @Override
+        protected TomlMapper<?> computeValue(Class<?> type) {
+            if (type.isPrimitive() || type.isArray() || type.getName().startsWith("java.")) {
+                return null;
+            }
+
+            try {
+                final Class<?> mapperClass = Class.forName(mapperName(type), true, type.getClassLoader());
+
+                return (TomlMapper<?>) mapperClass.getConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+                return null;
+            }
+        }
+    };
+
+    /**
+     * @return the generated mapper for type, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    static <T> TomlMapper<T> find(Class<T> type) {
+        return (TomlMapper<T>) MAPPERS.get(type);
+    }
+
+    /**
+     * @return the binary name of the mapper generated for type, such as com.example.Outer_InnerTomlMapper for com.example.Outer$Inner
+     */
+    static String mapperName(Class<?> type) {
+        return type.getName().replace('$', '_') + "TomlMapper";
+    }
+
+    private TomlMappers() {
+    }
+}
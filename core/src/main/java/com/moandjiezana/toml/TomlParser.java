@@ -0,0 +1,255 @@
+package com.moandjiezana.toml;
+
+import static com.moandjiezana.toml.ValueReaders.VALUE_READERS;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class TomlParser {
+
+    static Results run(Source source, ParsingPolicy parsingPolicy) {
+        final Symbols symbols = new Symbols(parsingPolicy);
+        final Results results = new Results(symbols);
+        final TomlParser parser = new TomlParser(source, results.errors, parsingPolicy, symbols);
+
+        while (parser.next()) {
+            final Identifier identifier = parser.identifier();
+
+            if (identifier.isTable()) {
+                results.startTables(identifier, parser.line());
+            } else if (identifier.isTableArray()) {
+                results.startTableArray(identifier, parser.line());
+            } else {
+                results.addValue(identifier.getName(), parser.value(), parser.line());
+            }
+        }
+
+        return results;
+    }
+
+    private final Source source;
+    private final Results.Errors errors;
+    private final ParsingPolicy parsingPolicy;
+    private final Symbols symbols;
+    private final TomlLexer lexer;
+    private final AtomicInteger index = new AtomicInteger();
+    private final AtomicInteger line;
+    private int statementStart = -1;
+    private Identifier identifier;
+    private Object value;
+
+    /**
+     * @param errors where syntax errors are reported. Parsing stops as soon as it contains an error, whoever reported it.
+     */
+    TomlParser(Source source, Results.Errors errors, ParsingPolicy parsingPolicy) {
+        this(source, errors, parsingPolicy, new Symbols(parsingPolicy));
+    }
+
+    /**
+     * @param symbols where key names are interned, if they are shared with a {@link Results}
+     */
+    TomlParser(Source source, Results.Errors errors, ParsingPolicy parsingPolicy, Symbols symbols) {
+        this.source = source;
+        this.errors = errors;
+        this.parsingPolicy = parsingPolicy;
+        this.symbols = symbols;
+        this.line = new AtomicInteger(1);
+        this.lexer = new TomlLexer(source, source.has(0) && source.charAt(0) == '\uFEFF' ? 1 : 0, symbols);
+    }
+
+    /**
+     * Reads the next table header or key/value pair.
+     *
+     * @return false at the end of the document or if there are errors
+     */
+    boolean next() {
+        if (this.statementStart > -1 && !this.errors.hasErrors()) {
+            this.endStatement();
+        }
+
+        this.identifier = null;
+        this.value = null;
+
+        while (!this.errors.hasErrors()) {
+            this.source.release(this.lexer.end());
+            final TomlLexer.Token token = this.lexer.next();
+
+            if (token == TomlLexer.Token.EOF) {
+                break;
+            } else if (token == TomlLexer.Token.NEWLINE) {
+                this.line.incrementAndGet();
+                continue;
+            } else if (token == TomlLexer.Token.COMMENT) {
+                continue;
+            }
+
+            final Context context = new Context(null, this.line, this.errors, this.parsingPolicy, this.symbols);
+            this.statementStart = this.lexer.start();
+            final Identifier identifier = token == TomlLexer.Token.LEFT_BRACKET || token == TomlLexer.Token.DOUBLE_LEFT_BRACKET
+                ? readTableName(this.source, this.lexer, token, context)
+                : readKey(this.source, this.lexer, token, context);
+
+            if (identifier == Identifier.INVALID) {
+                break;
+            }
+
+            if (identifier.isKey()) {
+                if (this.lexer.next() != TomlLexer.Token.VALUE_START) {
+                    this.errors.invalidValue(identifier.getName(), "", this.line.get());
+                    break;
+                }
+
+                this.index.set(this.lexer.start());
+                final Object value = this.parsingPolicy.isLazyValues()
+                    ? VALUE_READERS.defer(this.source, this.index, context.with(identifier))
+                    : VALUE_READERS.convert(this.source, this.index, context.with(identifier));
+
+                if (value instanceof Results.Errors) {
+                    this.errors.add((Results.Errors) value);
+                    break;
+                }
+
+                this.value = value;
+                this.lexer.seek(this.index.get() + 1);
+            }
+
+            this.identifier = identifier;
+
+            return true;
+        }
+
+        this.statementStart = -1;
+
+        return false;
+    }
+
+    /**
+     * @return the table, table array or key read by the last call to {@link #next()}
+     */
+    Identifier identifier() {
+        return this.identifier;
+    }
+
+    /**
+     * @return the value of the key read by the last call to {@link #next()}. May be a {@link LazyValue}, depending on the {@link ParsingPolicy}.
+     */
+    Object value() {
+        return this.value;
+    }
+
+    /**
+     * @return the current line. Multiline values have already been consumed.
+     */
+    AtomicInteger line() {
+        return this.line;
+    }
+
+    /**
+     * Only whitespace and a comment may follow a statement on the same line.
+     */
+    private void endStatement() {
+        final TomlLexer.Token token = this.lexer.next();
+
+        if (token == TomlLexer.Token.NEWLINE) {
+            this.line.incrementAndGet();
+        } else if (token != TomlLexer.Token.COMMENT && token != TomlLexer.Token.EOF) {
+            if (this.identifier.isKey()) {
+                this.errors.invalidTextAfterIdentifier(this.identifier, this.source.charAt(this.lexer.start()), this.line.get());
+            } else {
+                this.errors.invalidKey(this.source.substring(this.statementStart, this.lexer.start()).trim(), this.line.get());
+            }
+        }
+
+        this.statementStart = -1;
+    }
+
+    private static Identifier readKey(Source s, TomlLexer lexer, TomlLexer.Token token, Context context) {
+        final int start = lexer.start();
+
+        if (token == TomlLexer.Token.BARE_KEY || token == TomlLexer.Token.QUOTED_KEY) {
+            final String name = lexer.keyName();
+
+            if (lexer.next() == TomlLexer.Token.EQUALS) {
+                return Identifier.key(name);
+            }
+        }
+
+        boolean quoted = false;
+        for (int i = start; s.has(i) && s.charAt(i) != '\n'; i++) {
+            final char c = s.charAt(i);
+
+            if (c == '"' && (i == start || s.charAt(i - 1) != '\\')) {
+                quoted = !quoted;
+            } else if (c == '=' && !quoted) {
+                context.errors().invalidKey(s.substring(start, i).trim(), context.line().get());
+                return Identifier.INVALID;
+            }
+        }
+
+        context.errors().unterminatedKey(lineText(s, start), context.line().get());
+        return Identifier.INVALID;
+    }
+
+    private static Identifier readTableName(Source s, TomlLexer lexer, TomlLexer.Token opening, Context context) {
+        final boolean isTableArray = opening == TomlLexer.Token.DOUBLE_LEFT_BRACKET;
+        final TomlLexer.Token closing = isTableArray ? TomlLexer.Token.DOUBLE_RIGHT_BRACKET : TomlLexer.Token.RIGHT_BRACKET;
+        final int start = lexer.start();
+        final StringBuilder name = new StringBuilder(isTableArray ? "[[" : "[");
+        boolean keyAllowed = true;
+        boolean empty = true;
+        TomlLexer.Token token;
+
+        while (true) {
+            token = lexer.next();
+
+            if (keyAllowed && (token == TomlLexer.Token.BARE_KEY || token == TomlLexer.Token.QUOTED_KEY)) {
+                name.append(lexer.keyName());
+                keyAllowed = false;
+                empty = false;
+            } else if (!keyAllowed && token == TomlLexer.Token.DOT) {
+                name.append('.');
+                keyAllowed = true;
+            } else {
+                break;
+            }
+        }
+
+        if (token == closing && !keyAllowed) {
+            return isTableArray ? Identifier.tableArray(name.append("]]").toString()) : Identifier.table(name.append(']').toString());
+        }
+
+        final String raw = lineText(s, start);
+
+        if (token == TomlLexer.Token.DOT && !empty) {
+            context.errors().emptyImplicitTable(raw, context.line().get());
+        } else if (token == TomlLexer.Token.NEWLINE || token == TomlLexer.Token.EOF || token == TomlLexer.Token.COMMENT
+            || !keyAllowed && (token == TomlLexer.Token.RIGHT_BRACKET || token == TomlLexer.Token.DOUBLE_RIGHT_BRACKET)) {
+            context.errors().invalidKey(raw, context.line().get());
+        } else if (isTableArray) {
+            context.errors().invalidTableArray(raw, context.line().get());
+        } else {
+            context.errors().invalidTable(raw, context.line().get());
+        }
+
+        return Identifier.INVALID;
+    }
+
+    /**
+     * @return the text from start to the end of the line, excluding any comment
+     */
+    private static String lineText(Source s, int start) {
+        char quote = 0;
+        int end = start;
+
+        for (; s.has(end); end++) {
+            final char c = s.charAt(end);
+
+            if (c == '\n' || c == '#' && quote == 0) {
+                break;
+            } else if (Keys.isQuote(c) && (quote == 0 || quote == c)) {
+                quote = quote == 0 ? c : 0;
+            }
+        }
+
+        return s.substring(start, end).trim();
+    }
+}
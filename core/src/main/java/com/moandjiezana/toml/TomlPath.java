@@ -0,0 +1,91 @@
+package com.moandjiezana.toml;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>A key, such as <code>a.b[2].c</code>, that has been split into its parts once so that it can be looked up repeatedly without being parsed
+ * again. A lookup through a TomlPath walks the tables of a {@link Toml} instance without allocating.</p>
+ *
+ * <p>Immutable and thread-safe. {@link #compile(String)} keeps the paths it has compiled, up to a limit, so the keys passed to the getters that take a
+ * String are only split once as well.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre><code>
+ * static final TomlPath POOL_SIZE = TomlPath.compile("db.primary.pool.size");
+ *
+ * long poolSize = toml.getLongValue(POOL_SIZE, 10);
+ * </code></pre>
+ */
+public final class TomlPath {
+
+    private static final int MAX_CACHED_PATHS = 4096;
+    private static final ConcurrentHashMap<String, TomlPath> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * @param path a key name, can be compound (eg. a.b.c) and contain table array indices (eg. a[2].b)
+     * @return the compiled path, which may have been compiled before
+     */
+    public static TomlPath compile(String path) {
+        final TomlPath cached = CACHE.get(path);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        final TomlPath compiled = new TomlPath(path, Keys.split(path));
+
+        if (CACHE.size() >= MAX_CACHED_PATHS) {
+            return compiled;
+        }
+
+        final TomlPath previous = CACHE.putIfAbsent(path, compiled);
+
+        return previous != null ? previous : compiled;
+    }
+
+    final String path;
+    final String[] names;
+    final int[] indices;
+    /**
+     * The rest of the path from each name on, which a table may hold as a single key
+     */
+    final String[] remainders;
+
+    private TomlPath(String path, Keys.Key[] keys) {
+        this.path = path;
+        this.names = new String[keys.length];
+        this.indices = new int[keys.length];
+        this.remainders = new String[keys.length];
+
+        for (int i = 0; i < keys.length; i++) {
+            this.names[i] = keys[i].name;
+            this.indices[i] = keys[i].index;
+            this.remainders[i] = keys[i].path;
+        }
+    }
+
+    /**
+     * @return the number of names in the path
+     */
+    public int length() {
+        return this.names.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof TomlPath && ((TomlPath) o).path.equals(this.path);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.path.hashCode();
+    }
+
+    /**
+     * @return the path as it was compiled
+     */
+    @Override
+    public String toString() {
+        return this.path;
+    }
+}
@@ -0,0 +1,243 @@
+package com.moandjiezana.toml;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>A set of keys that are looked up together with {@link Toml#getAll(TomlProjection)}. The keys are arranged in a tree of their names, so that the
+ * tables they have in common, such as <code>db.primary</code> in <code>db.primary.host</code> and <code>db.primary.port</code>, are only looked up
+ * once per lookup of the whole set.</p>
+ *
+ * <p>Immutable and thread-safe, so it is meant to be built once and reused.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre><code>
+ * static final TomlProjection DB = TomlProjection.of("db.primary.host", "db.primary.port", "db.replica.host");
+ *
+ * TomlProjection.Values db = toml.getAll(DB);
+ * String host = db.getString(0);
+ * int port = db.getIntValue(1, 5432);
+ * </code></pre>
+ */
+public final class TomlProjection {
+
+    /**
+     * @param keys key names, can be compound (eg. a.b.c) and contain table array indices (eg. a[2].b)
+     * @return a projection whose values are in the same order as keys
+     */
+    public static TomlProjection of(String... keys) {
+        final TomlPath[] paths = new TomlPath[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            paths[i] = TomlPath.compile(keys[i]);
+        }
+
+        return new TomlProjection(paths);
+    }
+
+    /**
+     * @param paths compiled key names
+     * @return a projection whose values are in the same order as paths
+     */
+    public static TomlProjection of(TomlPath... paths) {
+        return new TomlProjection(paths.clone());
+    }
+
+    private final TomlPath[] paths;
+    private final Node root = new Node(null, -1);
+
+    private TomlProjection(TomlPath[] paths) {
+        this.paths = paths;
+
+        for (int position = 0; position < paths.length; position++) {
+            final TomlPath path = paths[position];
+            Node node = this.root;
+
+            for (int i = 0; i < path.names.length; i++) {
+                node = node.child(path.names[i], path.indices[i]);
+            }
+
+            node.positions.add(position);
+        }
+
+        this.root.freeze();
+    }
+
+    /**
+     * @return the number of keys
+     */
+    public int size() {
+        return this.paths.length;
+    }
+
+    /**
+     * @param position the position of a key, starting at 0
+     * @return the key at position
+     */
+    public TomlPath path(int position) {
+        return this.paths[position];
+    }
+
+    /**
+     * Stores the value found at each key of this projection under values in the position of that key. Keys that are not found are left alone.
+     */
+    void walk(Map<String, Object> values, Object[] found) {
+        walk(this.root, values, found);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void walk(Node node, Object current, Object[] found) {
+        for (Node child : node.children) {
+            Object value = current instanceof Map ? ((Map<String, Object>) current).get(child.name) : null;
+
+            if (value != null && child.index > -1) {
+                value = value instanceof List && child.index < ((List<?>) value).size() ? ((List<?>) value).get(child.index) : null;
+            }
+
+            if (value == null) {
+                continue;
+            }
+
+            for (int position : child.positionArray) {
+                found[position] = value;
+            }
+
+            walk(child, value, found);
+        }
+    }
+
+    /**
+     * A name and table array index shared by the keys that start with the same names
+     */
+    private static class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        final String name;
+        final int index;
+        List<Node> childList = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        Node[] children;
+        int[] positionArray;
+
+        Node(String name, int index) {
+            this.name = name;
+            this.index = index;
+        }
+
+        Node child(String name, int index) {
+            for (Node child : this.childList) {
+                if (child.name.equals(name) && child.index == index) {
+                    return child;
+                }
+            }
+
+            final Node child = new Node(name, index);
+            this.childList.add(child);
+
+            return child;
+        }
+
+        void freeze() {
+            this.children = this.childList.isEmpty() ? NO_CHILDREN : this.childList.toArray(NO_CHILDREN);
+            this.positionArray = this.positions.stream().mapToInt(Integer::intValue).toArray();
+            this.childList = null;
+            this.positions = null;
+
+            for (Node child : this.children) {
+                child.freeze();
+            }
+        }
+    }
+
+    /**
+     * The values found for the keys of a {@link TomlProjection}, by the position of their key. Getters return <code>null</code>, or the given default,
+     * for keys that were not found.
+     */
+    public static final class Values {
+
+        private final Object[] values;
+        private final boolean lazyValues;
+
+        Values(Object[] values, boolean lazyValues) {
+            this.values = values;
+            this.lazyValues = lazyValues;
+        }
+
+        /**
+         * @return the number of keys, found or not
+         */
+        public int size() {
+            return this.values.length;
+        }
+
+        /**
+         * @param position the position of a key in the projection
+         * @return true if the key was found
+         */
+        public boolean contains(int position) {
+            return this.values[position] != null;
+        }
+
+        public String getString(int position) {
+            return (String) this.values[position];
+        }
+
+        public Long getLong(int position) {
+            return (Long) this.values[position];
+        }
+
+        public long getLongValue(int position, long defaultValue) {
+            final Object value = this.values[position];
+            return value == null ? defaultValue : (Long) value;
+        }
+
+        /**
+         * @throws ArithmeticException If the value does not fit in an int
+         */
+        public int getIntValue(int position, int defaultValue) {
+            final Object value = this.values[position];
+            return value == null ? defaultValue : Math.toIntExact((Long) value);
+        }
+
+        /**
+         * Integers are widened to doubles, as by {@link Toml#getDouble(String)}.
+         */
+        public Double getDouble(int position) {
+            return Toml.toDouble(this.values[position]);
+        }
+
+        public double getDoubleValue(int position, double defaultValue) {
+            final Object value = this.values[position];
+            return value == null ? defaultValue : Toml.toDouble(value);
+        }
+
+        public Boolean getBoolean(int position) {
+            return (Boolean) this.values[position];
+        }
+
+        public boolean getBooleanValue(int position, boolean defaultValue) {
+            final Object value = this.values[position];
+            return value == null ? defaultValue : (Boolean) value;
+        }
+
+        public Date getDate(int position) {
+            final Object value = this.values[position];
+
+            return value instanceof OffsetDateTime ? Date.from(((OffsetDateTime) value).toInstant()) : (Date) value;
+        }
+
+        /**
+         * @param <T> type of list items
+         */
+        public <T> List<T> getList(int position) {
+            final Object value = this.values[position];
+
+            @SuppressWarnings("unchecked")
+            final List<T> list = (List<T>) (this.lazyValues ? LazyValue.resolveAll(value) : value);
+
+            return list;
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package com.moandjiezana.toml;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Parses a document held in memory section by section, either to spread the work over several threads or to only parse the sections that have changed
+ * since a previous version of the document.
+ * <p>
+ * The document is first split into sections at the lines that look like top-level table headers. Each section is then parsed on its own into a list of
+ * statements, and the statements are applied to a single {@link Results} in document order, so that duplicate keys and tables are detected exactly as
+ * they would be by a sequential parse.
+ * <p>
+ * The split is a cheap scan that does not fully tokenize the document, so it may cut a section in the middle of a value. The section then fails to parse,
+ * as the value is unterminated. Whenever a section fails, the whole document must be parsed again sequentially, which also makes error messages identical.
+ */
+class TomlSections {
+
+    private static final int MIN_SECTION_LENGTH = 64 * 1024;
+
+    static Results run(String text, ParsingPolicy parsingPolicy) {
+        return run(text, (start, end) -> new Source.Text(text.substring(start, end)), () -> new Source.Text(text), parsingPolicy);
+    }
+
+    /**
+     * @param bytes UTF-8 encoded. Its position is not modified.
+     */
+    static Results run(ByteBuffer bytes, ParsingPolicy parsingPolicy) {
+        final ByteBuffer document = bytes.slice();
+
+        return run(new Ascii(document), (start, end) -> new Source.Stream(new ByteBufferReader(document.slice(start, end - start))),
+            () -> new Source.Stream(new ByteBufferReader(document.duplicate())), parsingPolicy);
+    }
+
+    /**
+     * Parses every section of text, except those whose text is identical to a section of previous.
+     *
+     * @param previous may be null
+     * @return null if text cannot be parsed section by section, in which case it must be parsed sequentially
+     */
+    static Snapshot snapshot(String text, Snapshot previous, ParsingPolicy parsingPolicy) {
+        final List<Section> sections = split(text, 0);
+        final List<List<Statement>> statements = new ArrayList<>(sections.size());
+        final int[] hashes = new int[sections.size()];
+        final List<Section> modified = new ArrayList<>();
+
+        for (int i = 0; i < sections.size(); i++) {
+            final Section section = sections.get(i);
+            hashes[i] = hash(text, section);
+            final List<Statement> reused = previous != null ? previous.find(hashes[i], text, section) : null;
+
+            statements.add(reused);
+
+            if (reused == null) {
+                modified.add(section);
+            }
+        }
+
+        final List<List<Statement>> parsed = parse(modified, (start, end) -> new Source.Text(text.substring(start, end)), parsingPolicy);
+
+        if (parsed == null) {
+            return null;
+        }
+
+        for (int i = 0, j = 0; i < statements.size(); i++) {
+            if (statements.get(i) == null) {
+                statements.set(i, parsed.get(j++));
+            }
+        }
+
+        return new Snapshot(text, sections, statements, hashes);
+    }
+
+    /**
+     * The sections of a document and their statements.
+     */
+    static class Snapshot {
+        final String text;
+        private final List<Section> sections;
+        private final List<List<Statement>> statements;
+        private final Map<Integer, List<Integer>> sectionsByHash = new HashMap<>();
+
+        private Snapshot(String text, List<Section> sections, List<List<Statement>> statements, int[] hashes) {
+            this.text = text;
+            this.sections = sections;
+            this.statements = statements;
+
+            for (int i = 0; i < hashes.length; i++) {
+                this.sectionsByHash.computeIfAbsent(hashes[i], hash -> new ArrayList<>(1)).add(i);
+            }
+        }
+
+        /**
+         * @return a snapshot of text that has no sections to reuse
+         */
+        static Snapshot unparsed(String text) {
+            return new Snapshot(text, List.of(), List.of(), new int[0]);
+        }
+
+        Results results(ParsingPolicy parsingPolicy) {
+            final Results results = new Results(new Symbols(parsingPolicy));
+
+            for (int i = 0; i < this.sections.size(); i++) {
+                if (!apply(this.sections.get(i), this.statements.get(i), results)) {
+                    break;
+                }
+            }
+
+            return results;
+        }
+
+        /**
+         * @return the statements of a section of this snapshot whose text is identical to the section of other, or null
+         */
+        private List<Statement> find(int hash, String other, Section section) {
+            final List<Integer> candidates = this.sectionsByHash.get(hash);
+
+            if (candidates != null) {
+                for (int candidate : candidates) {
+                    final Section mine = this.sections.get(candidate);
+
+                    if (mine.end - mine.start == section.end - section.start
+                        && this.text.regionMatches(mine.start, other, section.start, section.end - section.start)) {
+                        return this.statements.get(candidate);
+                    }
+                }
+            }
+
+            return null;
+        }
+    }
+
+    private static Results run(CharSequence text, SectionSource sectionSource, Supplier<Source> documentSource, ParsingPolicy parsingPolicy) {
+        final ForkJoinPool pool = parsingPolicy.getPool();
+
+        if (pool.getParallelism() < 2 || text.length() < 2 * MIN_SECTION_LENGTH) {
+            return TomlParser.run(documentSource.get(), parsingPolicy);
+        }
+
+        final List<Section> sections = split(text, Math.max(MIN_SECTION_LENGTH, text.length() / (pool.getParallelism() * 4)));
+        final List<List<Statement>> statements = sections.size() < 2 ? null : parse(sections, sectionSource, parsingPolicy);
+
+        if (statements == null) {
+            return TomlParser.run(documentSource.get(), parsingPolicy);
+        }
+
+        final Results results = new Results(new Symbols(parsingPolicy));
+
+        for (int i = 0; i < sections.size(); i++) {
+            if (!apply(sections.get(i), statements.get(i), results)) {
+                break;
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * @return true if the statements were applied without errors
+     */
+    private static boolean apply(Section section, List<Statement> statements, Results results) {
+        final AtomicInteger line = new AtomicInteger();
+
+        for (Statement statement : statements) {
+            line.set(section.line - 1 + statement.line);
+
+            if (statement.identifier.isTable()) {
+                results.startTables(statement.identifier, line);
+            } else if (statement.identifier.isTableArray()) {
+                results.startTableArray(statement.identifier, line);
+            } else {
+                results.addValue(statement.identifier.getName(), statement.value, line);
+            }
+
+            if (results.errors.hasErrors()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Parses the sections concurrently if the policy has a pool and there are several of them.
+     *
+     * @return the statements of each section, with line numbers relative to the start of the section, or null if a section is not valid on its own
+     */
+    private static List<List<Statement>> parse(List<Section> sections, SectionSource sectionSource, ParsingPolicy parsingPolicy) {
+        final List<List<Statement>> statements = new ArrayList<>(sections.size());
+        final ForkJoinPool pool = parsingPolicy.getPool();
+
+        if (pool == null || sections.size() < 2) {
+            for (Section section : sections) {
+                final List<Statement> parsed = parse(sectionSource.get(section.start, section.end), parsingPolicy);
+
+                if (parsed == null) {
+                    return null;
+                }
+
+                statements.add(parsed);
+            }
+
+            return statements;
+        }
+
+        final List<ForkJoinTask<List<Statement>>> tasks = new ArrayList<>(sections.size());
+        for (Section section : sections) {
+            tasks.add(pool.submit(() -> parse(sectionSource.get(section.start, section.end), parsingPolicy)));
+        }
+
+        try {
+            for (ForkJoinTask<List<Statement>> task : tasks) {
+                final List<Statement> parsed = task.join();
+
+                if (parsed == null) {
+                    return null;
+                }
+
+                statements.add(parsed);
+            }
+        } catch (RuntimeException e) {
+            return null;
+        } finally {
+            for (ForkJoinTask<List<Statement>> task : tasks) {
+                task.cancel(false);
+            }
+        }
+
+        return statements;
+    }
+
+    /**
+     * @return the statements in source, or null if it is not valid on its own
+     */
+    private static List<Statement> parse(Source source, ParsingPolicy parsingPolicy) {
+        final Results.Errors errors = new Results.Errors();
+        final TomlParser parser = new TomlParser(source, errors, parsingPolicy);
+        final List<Statement> statements = new ArrayList<>();
+
+        while (parser.next()) {
+            statements.add(new Statement(parser.identifier(), parser.value(), parser.line().get()));
+        }
+
+        return errors.hasErrors() ? null : statements;
+    }
+
+    private static int hash(String text, Section section) {
+        int hash = 0;
+        for (int i = section.start; i < section.end; i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+
+        return hash;
+    }
+
+    /**
+     * Starts a new section at a line that begins with a square bracket, outside of any string, comment, array or inline table, once the current section is
+     * at least sectionLength characters long.
+     */
+    static List<Section> split(CharSequence text, int sectionLength) {
+        final List<Section> sections = new ArrayList<>();
+        final int length = text.length();
+        int sectionStart = 0;
+        int sectionLine = 1;
+        int line = 1;
+        int depth = 0;
+        boolean lineStart = true;
+        int i = 0;
+
+        while (i < length) {
+            final char c = text.charAt(i);
+
+            if (c == '\n') {
+                line++;
+                lineStart = true;
+                i++;
+                continue;
+            }
+
+            if (lineStart && (c == ' ' || c == '\t' || c == '\r')) {
+                i++;
+                continue;
+            }
+
+            if (lineStart && c == '[' && depth == 0 && i - sectionStart >= sectionLength) {
+                int start = i;
+                while (start > 0 && text.charAt(start - 1) != '\n') {
+                    start--;
+                }
+
+                sections.add(new Section(sectionStart, start, sectionLine));
+                sectionStart = start;
+                sectionLine = line;
+            }
+
+            lineStart = false;
+
+            if (c == '#') {
+                while (i < length && text.charAt(i) != '\n') {
+                    i++;
+                }
+            } else if (c == '"' || c == '\'') {
+                if (i + 2 < length && text.charAt(i + 1) == c && text.charAt(i + 2) == c) {
+                    i += 3;
+                    while (i < length && !(text.charAt(i) == c && i + 2 < length && text.charAt(i + 1) == c && text.charAt(i + 2) == c)) {
+                        if (text.charAt(i) == '\n') {
+                            line++;
+                        } else if (c == '"' && isEscape(text, i)) {
+                            i++;
+                        }
+                        i++;
+                    }
+                    i += 3;
+                } else {
+                    i++;
+                    while (i < length && text.charAt(i) != c && text.charAt(i) != '\n') {
+                        if (c == '"' && isEscape(text, i)) {
+                            i++;
+                        }
+                        i++;
+                    }
+                    if (i < length && text.charAt(i) == c) {
+                        i++;
+                    }
+                }
+            } else {
+                if (c == '[' || c == '{') {
+                    depth++;
+                } else if ((c == ']' || c == '}') && depth > 0) {
+                    depth--;
+                }
+                i++;
+            }
+        }
+
+        sections.add(new Section(sectionStart, length, sectionLine));
+
+        return sections;
+    }
+
+    /**
+     * @return true if the character at index escapes the next one, unless it is a line break
+     */
+    private static boolean isEscape(CharSequence text, int index) {
+        return text.charAt(index) == '\\' && index + 1 < text.length() && text.charAt(index + 1) != '\n';
+    }
+
+    record Section(int start, int end, int line) {
+    }
+
+    private record Statement(Identifier identifier, Object value, int line) {
+    }
+
+    private interface SectionSource {
+        Source get(int start, int end);
+    }
+
+    /**
+     * Exposes UTF-8 bytes as chars for {@link #split(CharSequence, int)}, which only looks for ASCII characters. Bytes that are part of a multibyte sequence
+     * are all above 0x7F, so they cannot be mistaken for one.
+     */
+    private static class Ascii implements CharSequence {
+        private final ByteBuffer bytes;
+
+        Ascii(ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int length() {
+            return this.bytes.limit();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (this.bytes.get(index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new Ascii(this.bytes.slice(start, end - start));
+        }
+    }
+
+    private TomlSections() {
+    }
+}
@@ -0,0 +1,61 @@
+package com.moandjiezana.toml;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>A table of key names shared by the documents read with {@link Toml.Builder#symbols(TomlSymbols)}, so that the keys of many similar documents are
+ * only held once in memory. Within a single document, keys are always shared, whether or not a TomlSymbols is used.</p>
+ *
+ * <p>Thread-safe. Once the table is full, keys that are not in it yet are no longer added, so that documents with arbitrary keys cannot grow it
+ * forever.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre><code>
+ * TomlSymbols symbols = new TomlSymbols();
+ * for (Path path : tenantConfigs) {
+ *   configs.add(new Toml.Builder().symbols(symbols).build().read(path));
+ * }
+ * </code></pre>
+ */
+public class TomlSymbols {
+
+    private final ConcurrentHashMap<String, String> symbols = new ConcurrentHashMap<>();
+    private final int maximumSize;
+
+    /**
+     * Creates a table that holds up to 65536 keys.
+     */
+    public TomlSymbols() {
+        this(64 * 1024);
+    }
+
+    /**
+     * @param maximumSize the number of keys beyond which new keys are not added
+     */
+    public TomlSymbols(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @return the number of keys in the table
+     */
+    public int size() {
+        return this.symbols.size();
+    }
+
+    String intern(String symbol) {
+        final String existing = this.symbols.get(symbol);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        if (this.symbols.size() >= this.maximumSize) {
+            return symbol;
+        }
+
+        final String previous = this.symbols.putIfAbsent(symbol, symbol);
+
+        return previous != null ? previous : symbol;
+    }
+}
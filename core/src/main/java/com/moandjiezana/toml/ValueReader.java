@@ -0,0 +1,34 @@
+package com.moandjiezana.toml;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+interface ValueReader {
+
+    /**
+     * @param s     the complete TOML source
+     * @param index where the value starts in s. Must not point to whitespace.
+     */
+    boolean canRead(Source s, int index);
+
+    /**
+     * Partial validation. Stops after type terminator, rather than at EOI.
+     *
+     * @param s       must already have been validated by {@link #canRead(Source, int)}
+     * @param index   where to start in s
+     * @param context current line number, used for error reporting
+     * @return a value or a {@link Results.Errors}
+     */
+    Object read(Source s, AtomicInteger index, Context context);
+
+    /**
+     * Checks a value without decoding it, so that decoding can be deferred until the value is needed. Must only succeed for values that
+     * {@link #read(Source, AtomicInteger, Context)} would accept and that fit on a single line.
+     *
+     * @param s     must already have been validated by {@link #canRead(Source, int)}
+     * @param index where the value starts in s
+     * @return the index at which {@link #read(Source, AtomicInteger, Context)} would leave off, or -1 if the value must be read straight away
+     */
+    default int skip(Source s, int index) {
+        return -1;
+    }
+}
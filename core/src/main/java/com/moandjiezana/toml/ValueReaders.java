@@ -0,0 +1,104 @@
+package com.moandjiezana.toml;
+
+import static com.moandjiezana.toml.ArrayValueReader.ARRAY_VALUE_READER;
+import static com.moandjiezana.toml.BooleanValueReaderWriter.BOOLEAN_VALUE_READER_WRITER;
+import static com.moandjiezana.toml.DateValueReaderWriter.DATE_VALUE_READER_WRITER;
+import static com.moandjiezana.toml.InlineTableValueReader.INLINE_TABLE_VALUE_READER;
+import static com.moandjiezana.toml.LiteralStringValueReader.LITERAL_STRING_VALUE_READER;
+import static com.moandjiezana.toml.MultilineLiteralStringValueReader.MULTILINE_LITERAL_STRING_VALUE_READER;
+import static com.moandjiezana.toml.MultilineStringValueReader.MULTILINE_STRING_VALUE_READER;
+import static com.moandjiezana.toml.NumberValueReaderWriter.NUMBER_VALUE_READER_WRITER;
+import static com.moandjiezana.toml.StringValueReaderWriter.STRING_VALUE_READER_WRITER;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ValueReaders {
+
+    static final ValueReaders VALUE_READERS = new ValueReaders();
+
+    Object convert(Source value, AtomicInteger index, Context context) {
+        final int start = index.get();
+        final char first = value.charAt(start);
+
+        if (first < READERS.length && READERS[first] != null) {
+            for (ValueReader valueParser : READERS[first]) {
+                if (valueParser.canRead(value, start)) {
+                    return context.symbols().value(valueParser.read(value, index, context));
+                }
+            }
+        }
+
+        int end = start;
+        while (value.has(end) && value.charAt(end) != '\n') {
+            end++;
+        }
+
+        final Results.Errors errors = new Results.Errors();
+        errors.invalidValue(context.identifier().getName(), value.substring(start, end), context.line().get());
+        return errors;
+    }
+
+    /**
+     * Like {@link #convert(Source, AtomicInteger, Context)}, but values that can be checked without being decoded are returned as a {@link LazyValue}.
+     * Unless value is held in memory, the text of such values is copied out of it.
+     */
+    Object defer(Source value, AtomicInteger index, Context context) {
+        final int start = index.get();
+        final char first = value.charAt(start);
+
+        if (first < READERS.length && READERS[first] != null) {
+            for (ValueReader valueParser : READERS[first]) {
+                if (valueParser.canRead(value, start)) {
+                    final int end = valueParser.skip(value, start);
+
+                    if (end == -1) {
+                        return context.symbols().value(valueParser.read(value, index, context));
+                    }
+
+                    index.set(end);
+                    final String key = context.identifier().getName();
+
+                    if (value instanceof Source.Text) {
+                        return new LazyValue(valueParser, context.parsingPolicy(), value, start, key, context.line().get());
+                    }
+
+                    // Keep the character after the value, as some readers look ahead to find where it ends
+                    int copyEnd = start;
+                    while (copyEnd <= end + 1 && value.has(copyEnd)) {
+                        copyEnd++;
+                    }
+
+                    final Source copy = new Source.Text(value.substring(start, copyEnd));
+
+                    return new LazyValue(valueParser, context.parsingPolicy(), copy, 0, key, context.line().get());
+                }
+            }
+        }
+
+        return this.convert(value, index, context);
+    }
+
+    private ValueReaders() {
+    }
+
+    /**
+     * Candidate readers indexed by the first character of a value, in the order in which they must be tried.
+     */
+    private static final ValueReader[][] READERS = new ValueReader[128][];
+
+    static {
+        register("\"", MULTILINE_STRING_VALUE_READER, STRING_VALUE_READER_WRITER);
+        register("'", MULTILINE_LITERAL_STRING_VALUE_READER, LITERAL_STRING_VALUE_READER);
+        register("0123456789", DATE_VALUE_READER_WRITER, NUMBER_VALUE_READER_WRITER);
+        register("+-", NUMBER_VALUE_READER_WRITER);
+        register("tf", BOOLEAN_VALUE_READER_WRITER);
+        register("[", ARRAY_VALUE_READER);
+        register("{", INLINE_TABLE_VALUE_READER);
+    }
+
+    private static void register(String firstChars, ValueReader... readers) {
+        for (int i = 0; i < firstChars.length(); i++) {
+            READERS[firstChars.charAt(i)] = readers;
+        }
+    }
+}
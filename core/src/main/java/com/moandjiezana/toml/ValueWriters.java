@@ -0,0 +1,81 @@
+package com.moandjiezana.toml;
+
+import static com.moandjiezana.toml.BooleanValueReaderWriter.BOOLEAN_VALUE_READER_WRITER;
+import static com.moandjiezana.toml.DateValueReaderWriter.DATE_VALUE_READER_WRITER;
+import static com.moandjiezana.toml.MapValueWriter.MAP_VALUE_WRITER;
+import static com.moandjiezana.toml.NumberValueReaderWriter.NUMBER_VALUE_READER_WRITER;
+import static com.moandjiezana.toml.ObjectValueWriter.OBJECT_VALUE_WRITER;
+import static com.moandjiezana.toml.PrimitiveArrayValueWriter.PRIMITIVE_ARRAY_VALUE_WRITER;
+import static com.moandjiezana.toml.StringValueReaderWriter.STRING_VALUE_READER_WRITER;
+import static com.moandjiezana.toml.TableArrayValueWriter.TABLE_ARRAY_VALUE_WRITER;
+
+import java.net.URI;
+import java.net.URL;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Finds the writer of a value by its class. Whether a class is written as a string, number, boolean, date, table or object does not depend on the
+ * instance, so it is worked out once per class and kept in a {@link ClassValue}, in the same order as the writers' canWrite methods would be tried.
+ * Only arrays and collections depend on their contents: they are written inline unless their first element is a table.
+ */
+class ValueWriters {
+
+    static final ValueWriters WRITERS = new ValueWriters();
+
+    /**
+     * Null for arrays and collections
+     */
+    private static final ClassValue<ValueWriter> CLASS_WRITERS = new ClassValue<ValueWriter>() {
+        @Override
+        protected ValueWriter computeValue(Class<?> type) {
+            if (type == String.class || type == Character.class || URL.class.isAssignableFrom(type) || URI.class.isAssignableFrom(type)
+                || Enum.class.isAssignableFrom(type)) {
+                return STRING_VALUE_READER_WRITER;
+            }
+
+            if (Number.class.isAssignableFrom(type)) {
+                return NUMBER_VALUE_READER_WRITER;
+            }
+
+            if (type == Boolean.class) {
+                return BOOLEAN_VALUE_READER_WRITER;
+            }
+
+            if (Date.class.isAssignableFrom(type) || type == Instant.class || type == OffsetDateTime.class || type == ZonedDateTime.class
+                || type == LocalDateTime.class || type == LocalDate.class || type == LocalTime.class) {
+                return DATE_VALUE_READER_WRITER;
+            }
+
+            if (Map.class.isAssignableFrom(type)) {
+                return MAP_VALUE_WRITER;
+            }
+
+            if (Collection.class.isAssignableFrom(type) || type.isArray()) {
+                return null;
+            }
+
+            return OBJECT_VALUE_WRITER;
+        }
+    };
+
+    ValueWriter findWriterFor(Object value) {
+        final ValueWriter valueWriter = CLASS_WRITERS.get(value.getClass());
+
+        if (valueWriter != null) {
+            return valueWriter;
+        }
+
+        return ArrayValueWriter.isArrayOfPrimitive(value) ? PRIMITIVE_ARRAY_VALUE_WRITER : TABLE_ARRAY_VALUE_WRITER;
+    }
+
+    private ValueWriters() {
+    }
+}
@@ -2,6 +2,9 @@ package com.moandjiezana.toml;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.time.DateTimeException;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
 import java.util.Arrays;
 
 class WriterContext {
@@ -75,6 +78,24 @@ class WriterContext {
         }
     }
 
+    /**
+     * Formats the temporal straight into the output, without an intermediate String.
+     */
+    WriterContext write(TemporalAccessor temporal, DateTimeFormatter formatter) {
+        try {
+            formatter.formatTo(temporal, this.output);
+            this.empty = false;
+
+            return this;
+        } catch (DateTimeException e) {
+            if (e.getCause() instanceof IOException) {
+                throw new RuntimeException(e.getCause());
+            }
+
+            throw e;
+        }
+    }
+
     void writeKey() {
         if (this.key.isEmpty()) {
             return;
@@ -0,0 +1,42 @@
+package com.moandjiezana.toml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class ArrayTest {
+
+    @Test
+    public void should_not_allow_arrays_of_any_type_to_be_modified() throws Exception {
+        final String toml = "longs = [1, 2]\ndoubles = [1.5, 2.5]\nstrings = [\"a\", \"b\"]\nnested = [[1], [2]]\n[[tables]]\na = 1";
+
+        for (Toml document : Arrays.asList(new Toml().read(toml), new Toml.Builder().lazyValues().build().read(toml))) {
+            for (String key : Arrays.asList("longs", "doubles", "strings", "nested", "tables")) {
+                final List<Object> list = document.getList(key);
+                final int size = list.size();
+
+                try {
+                    list.add(list.get(0));
+                    fail(key + " was modified");
+                } catch (UnsupportedOperationException e) {
+                    assertEquals(key, size, document.getList(key).size());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void should_copy_primitive_arrays() throws Exception {
+        final Toml toml = new Toml().read("longs = [1, 2]\ndoubles = [1.5, 2.5]");
+
+        toml.getLongArray("longs")[0] = 9;
+        toml.getDoubleArray("doubles")[0] = 9;
+
+        assertEquals(Arrays.asList(1L, 2L), toml.getList("longs"));
+        assertEquals(Arrays.asList(1.5, 2.5), toml.getList("doubles"));
+    }
+}
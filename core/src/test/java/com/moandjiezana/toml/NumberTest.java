@@ -0,0 +1,40 @@
+package com.moandjiezana.toml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+public class NumberTest {
+
+    @Test
+    public void should_widen_integers_read_as_doubles() throws Exception {
+        final Toml toml = new Toml().read("a = 2\nb = 2.5\nc = [1, 2]");
+
+        assertEquals(Double.valueOf(2), toml.getDouble("a"));
+        assertEquals(Double.valueOf(2), toml.getDouble(TomlPath.compile("a")));
+        assertEquals(Double.valueOf(2), toml.getDouble("a", 9.0));
+        assertEquals(2.0, toml.getDoubleValue("a", 9), 0);
+        assertEquals(Double.valueOf(2.5), toml.getDouble("b"));
+        assertEquals(2.0, toml.getDoubleArray("c")[1], 0);
+    }
+
+    @Test
+    public void should_not_narrow_floats_read_as_integers() throws Exception {
+        final Toml toml = new Toml().read("a = 2.5\nb = 'text'");
+
+        try {
+            toml.getLong("a");
+            fail();
+        } catch (ClassCastException e) {
+            // Expected
+        }
+
+        try {
+            toml.getDouble("b");
+            fail();
+        } catch (ClassCastException e) {
+            // Expected
+        }
+    }
+}
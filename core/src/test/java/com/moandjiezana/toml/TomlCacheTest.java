@@ -0,0 +1,48 @@
+package com.moandjiezana.toml;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TomlCacheTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void should_reuse_jar_entry_until_it_changes() throws Exception {
+        final File jar = new File(this.folder.newFolder("jar"), "config.jar");
+        final URL url = new URL("jar:" + jar.toURI() + "!/config.toml");
+        final TomlCache cache = new TomlCache.Builder().build();
+
+        writeJar(jar, "a = 1", 1000000000000L);
+        assertEquals(Long.valueOf(1), cache.get(url).getLong("a"));
+        assertEquals(Long.valueOf(1), cache.get(url).getLong("a"));
+
+        writeJar(jar, "a = 22", 1000000060000L);
+        assertEquals(Long.valueOf(22), cache.get(url).getLong("a"));
+
+        assertEquals(new TomlCache.Stats(1, 2, 0, 0), cache.stats());
+    }
+
+    private static void writeJar(File jar, String toml, long time) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(jar.toPath()); JarOutputStream jarStream = new JarOutputStream(outputStream)) {
+            final JarEntry entry = new JarEntry("config.toml");
+            entry.setTime(time);
+            jarStream.putNextEntry(entry);
+            jarStream.write(toml.getBytes(StandardCharsets.UTF_8));
+            jarStream.closeEntry();
+        }
+    }
+}
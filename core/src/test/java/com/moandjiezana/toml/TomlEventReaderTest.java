@@ -0,0 +1,39 @@
+package com.moandjiezana.toml;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TomlEventReaderTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void should_read_small_and_large_files() throws Exception {
+        final StringBuilder large = new StringBuilder();
+        while (large.length() <= Toml.MAPPING_THRESHOLD) {
+            large.append("# padding to have the file mapped rather than read\n");
+        }
+
+        for (String padding : new String[] { "", large.toString() }) {
+            final Path path = this.folder.newFile().toPath();
+            Files.write(path, (padding + "[a]\nb = 1\n").getBytes(StandardCharsets.UTF_8));
+
+            try (TomlEventReader reader = new TomlEventReader(path)) {
+                assertEquals(TomlEventReader.Event.START_TABLE, reader.next());
+                assertEquals("a", reader.getName());
+                assertEquals(TomlEventReader.Event.KEY, reader.next());
+                assertEquals(TomlEventReader.Event.VALUE, reader.next());
+                assertEquals(1L, reader.getValue());
+                assertEquals(TomlEventReader.Event.END_DOCUMENT, reader.next());
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.moandjiezana.toml;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class TomlToClassTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_not_change_toml_when_bound_object_is_changed() throws Exception {
+        final String source = "obj = [1, 2]\nwhen = 1979-05-27T07:32:00Z\n[map]\narr = [1.5, 2.5]\nnames = [\"a\"]\n[map.sub]\na = 1";
+
+        for (Toml toml : Arrays.asList(new Toml().read(source), new Toml.Builder().lazyValues().build().read(source))) {
+            final Untyped untyped = toml.to(Untyped.class);
+
+            ((List<Object>) untyped.obj).add(99L);
+            ((Date) untyped.when).setTime(0);
+            ((List<Object>) untyped.map.get("arr")).set(0, -1.0);
+            ((List<Object>) untyped.map.get("names")).add("b");
+            ((Map<String, Object>) untyped.map.get("sub")).put("a", 2L);
+
+            assertEquals(Arrays.asList(1L, 2L), toml.getList("obj"));
+            assertEquals(296638320000L, toml.getDate("when").getTime());
+            assertEquals(Arrays.asList(1.5, 2.5), toml.getList("map.arr"));
+            assertEquals(Arrays.asList("a"), toml.getList("map.names"));
+            assertEquals(Long.valueOf(1), toml.getLong("map.sub.a"));
+        }
+    }
+
+    @Test
+    public void should_keep_toml_types_of_untyped_values() throws Exception {
+        final Untyped untyped = new Toml().read("obj = 1\n[map]\nd = 1.5\narr = [1, 2]\n[map.sub]\na = 1").to(Untyped.class);
+
+        assertEquals(1L, untyped.obj);
+        assertEquals(1.5, untyped.map.get("d"));
+        assertEquals(Arrays.asList(1L, 2L), untyped.map.get("arr"));
+        assertEquals(LinkedHashMap.class, untyped.map.get("sub").getClass());
+    }
+
+    static class Untyped {
+        Object obj;
+        Object when;
+        Map<String, Object> map;
+    }
+}
@@ -0,0 +1,56 @@
+package com.moandjiezana.toml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+public class TomlWriterTest {
+
+    @Test
+    public void should_write_first_and_last_four_digit_years() throws Exception {
+        final TomlWriter writer = new TomlWriter();
+        final String first = writer.write(Collections.singletonMap("a", Date.from(Instant.parse("0000-01-01T00:00:00Z"))));
+        final String last = writer.write(Collections.singletonMap("a", LocalDateTime.of(9999, 12, 31, 23, 59, 59)));
+
+        assertEquals("a = 0000-01-01T00:00:00Z\n", first);
+        assertEquals("a = 9999-12-31T23:59:59\n", last);
+        assertEquals(Date.from(Instant.parse("0000-01-01T00:00:00Z")), new Toml().read(first).getDate("a"));
+        new Toml().read(last);
+    }
+
+    @Test
+    public void should_fail_on_years_a_toml_date_cannot_hold() throws Exception {
+        assertYearOutOfRange(new TomlWriter(), LocalDate.of(10001, 2, 4));
+        assertYearOutOfRange(new TomlWriter(), OffsetDateTime.of(-1, 11, 26, 0, 0, 0, 0, ZoneOffset.UTC));
+        assertYearOutOfRange(new TomlWriter(), Instant.parse("+10000-01-01T00:00:00Z"));
+        assertYearOutOfRange(new TomlWriter(), Date.from(Instant.parse("-0001-12-31T23:59:59Z")));
+    }
+
+    @Test
+    public void should_check_year_in_time_zone_of_writer() throws Exception {
+        final Date date = Date.from(Instant.parse("9999-12-31T23:30:00Z"));
+
+        assertEquals("a = 9999-12-31T23:30:00Z\n", new TomlWriter().write(Collections.singletonMap("a", date)));
+        assertYearOutOfRange(new TomlWriter.Builder().timeZone(TimeZone.getTimeZone("GMT+01:00")).build(), date);
+    }
+
+    private static void assertYearOutOfRange(TomlWriter writer, Object date) {
+        try {
+            writer.write(Collections.singletonMap("a", date));
+            fail(date.toString());
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("a: cannot write ") && e.getMessage().contains("between 0000 and 9999"));
+        }
+    }
+}
@@ -0,0 +1,647 @@
+package com.moandjiezana.toml.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * <p>Generates a <code>com.moandjiezana.toml.TomlMapper</code> for each class annotated with <code>com.moandjiezana.toml.TomlMapped</code>. The
+ * mapper reads and writes the fields of the class one by one, with the getters of <code>Toml</code> that match their types, so that
+ * <code>Toml.to()</code> and <code>TomlWriter</code> need neither reflection nor Gson for it.</p>
+ *
+ * <p>The mapper is generated in the package of the class, and named after it, eg. <code>ServerTomlMapper</code> for <code>Server</code> and
+ * <code>Outer_InnerTomlMapper</code> for <code>Outer.Inner</code>.</p>
+ *
+ * <p>Fields that cannot be assigned from the mapper, such as private or final fields, are reported as errors. Fields of a type that has no
+ * matching getter, such as maps, are reported as warnings and no mapper is generated, so the class is still bound through reflection.</p>
+ *
+ * <p>Before reading, <code>canRead()</code> checks with instanceof that each value has the type the mapper expects, and that integers fit in their
+ * field. If one does not, such as a string for a boolean, <code>Toml.to()</code> binds the document as it would without the mapper, so that the same
+ * values are converted, and the same errors thrown, with or without the annotation.</p>
+ */
+public class TomlMappedProcessor extends AbstractProcessor {
+
+    private static final String TOML_MAPPED = "com.moandjiezana.toml.TomlMapped";
+    private static final String LONG_CHECK = "value instanceof Long";
+    private static final String NUMBER_CHECK = "value instanceof Long || value instanceof Double";
+    private static final String DATE_CHECK = "value instanceof java.util.Date || value instanceof java.time.OffsetDateTime";
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(TOML_MAPPED);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.RECORD) {
+                    error("@TomlMapped can only be applied to classes and records", element);
+                    continue;
+                }
+
+                final TypeElement type = (TypeElement) element;
+                final Mapper mapper = mapper(type);
+
+                if (mapper != null) {
+                    write(mapper);
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return the mapper of type, or null if one cannot be generated
+     */
+    private Mapper mapper(TypeElement type) {
+        final Mapper mapper = new Mapper(type, packageOf(type).getQualifiedName().toString(), mapperName(type));
+        boolean valid = accessible(type);
+
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            error("@TomlMapped classes cannot be abstract", type);
+            valid = false;
+        }
+
+        if (mapper.record) {
+            for (RecordComponentElement component : type.getRecordComponents()) {
+                final Property property = property(mapper, component.getSimpleName().toString(), component.asType(), component);
+                if (property == null) {
+                    return null;
+                }
+                mapper.properties.add(property);
+            }
+
+            return valid ? mapper : null;
+        }
+
+        if (!hasNoArgConstructor(type)) {
+            error("@TomlMapped classes need a constructor without arguments that is not private", type);
+            valid = false;
+        }
+
+        for (TypeElement current = type; current != null; current = superclass(current)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                final Set<Modifier> modifiers = field.getModifiers();
+
+                if (modifiers.contains(Modifier.TRANSIENT) || modifiers.contains(Modifier.STATIC) && modifiers.contains(Modifier.FINAL)) {
+                    continue;
+                }
+
+                if (modifiers.contains(Modifier.STATIC)) {
+                    // TomlWriter writes static fields that are not constants, so the mapper writes them too, but they are never read
+                    if (modifiers.contains(Modifier.PRIVATE) || current != type && !modifiers.contains(Modifier.PUBLIC) && !packageOf(current).equals(packageOf(type))) {
+                        warning("No TomlMapper generated: static field " + field.getSimpleName() + " cannot be written by it. The class will be bound through reflection instead.", field);
+                        return null;
+                    }
+
+                    final Property property = new Property(field.getSimpleName().toString(), false);
+                    property.staticOwner = current.getQualifiedName().toString();
+                    mapper.properties.add(property);
+                    continue;
+                }
+
+                if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL)) {
+                    error("Fields of @TomlMapped classes cannot be private or final: " + field.getSimpleName(), field);
+                    valid = false;
+                    continue;
+                }
+
+                if (current != type && !modifiers.contains(Modifier.PUBLIC) && !packageOf(current).equals(packageOf(type))) {
+                    error("Inherited fields of @TomlMapped classes must be public or in the same package: " + field.getSimpleName(), type);
+                    valid = false;
+                    continue;
+                }
+
+                final Property property = property(mapper, field.getSimpleName().toString(), field.asType(), field);
+                if (property == null) {
+                    return null;
+                }
+                mapper.properties.add(property);
+            }
+        }
+
+        return valid ? mapper : null;
+    }
+
+    /**
+     * @return how to read and write a field or record component, or null if its type is not supported
+     */
+    private Property property(Mapper mapper, String name, TypeMirror type, Element element) {
+        final String key = "\"" + name + "\"";
+        final Property property = new Property(name, type.getKind().isPrimitive());
+
+        switch (type.getKind()) {
+            case LONG:
+                property.read = "toml.getLongValue(" + key + ", %s)";
+                property.check = LONG_CHECK;
+                property.zero = "0L";
+                return property;
+            case INT:
+                property.read = "toml.getIntValue(" + key + ", %s)";
+                property.check = fits(mapper, "Integer");
+                property.zero = "0";
+                return property;
+            case SHORT:
+                property.read = "(short) toml.getLongValue(" + key + ", %s)";
+                property.check = fits(mapper, "Short");
+                property.zero = "(short) 0";
+                return property;
+            case BYTE:
+                property.read = "(byte) toml.getLongValue(" + key + ", %s)";
+                property.check = fits(mapper, "Byte");
+                property.zero = "(byte) 0";
+                return property;
+            case DOUBLE:
+                property.read = "toml.getDoubleValue(" + key + ", %s)";
+                property.check = NUMBER_CHECK;
+                property.zero = "0.0";
+                return property;
+            case FLOAT:
+                property.read = "(float) toml.getDoubleValue(" + key + ", %s)";
+                property.check = NUMBER_CHECK;
+                property.zero = "0f";
+                return property;
+            case BOOLEAN:
+                property.read = "toml.getBooleanValue(" + key + ", %s)";
+                property.check = "value instanceof Boolean";
+                property.zero = "false";
+                return property;
+            case ARRAY:
+                arrayRead(mapper, property, key, ((ArrayType) type).getComponentType());
+                return supported(property, type, element);
+            case DECLARED:
+                declaredRead(mapper, property, key, (DeclaredType) type);
+                return supported(property, type, element);
+            default:
+                return supported(property, type, element);
+        }
+    }
+
+    private Property supported(Property property, TypeMirror type, Element element) {
+        if (property.read == null) {
+            warning("No TomlMapper generated: unsupported type " + type + " of " + property.name + ". It will be bound through reflection instead.", element);
+            return null;
+        }
+
+        return property;
+    }
+
+    /**
+     * @return a check that value is an integer in the range of the given wrapper type
+     */
+    private String fits(Mapper mapper, String wrapper) {
+        mapper.helpers.add(Helper.FITS);
+
+        return "fits(value, " + wrapper + ".MIN_VALUE, " + wrapper + ".MAX_VALUE)";
+    }
+
+    /**
+     * @return a check that value is an array whose items are all instances of itemType
+     */
+    private String all(Mapper mapper, String itemType) {
+        mapper.helpers.add(Helper.ALL);
+
+        return "all(value, " + itemType + ".class)";
+    }
+
+    private void arrayRead(Mapper mapper, Property property, String key, TypeMirror componentType) {
+        if (componentType.getKind() == TypeKind.LONG) {
+            property.read = "toml.getLongArray(" + key + ")";
+            property.check = all(mapper, "Long");
+        } else if (componentType.getKind() == TypeKind.DOUBLE) {
+            property.read = "toml.getDoubleArray(" + key + ")";
+            property.check = numbers(mapper);
+        } else if (isType(componentType, "java.lang.String")) {
+            mapper.helpers.add(Helper.CHECKED);
+            property.read = "checked(toml.getList(" + key + "), String.class).toArray(new String[0])";
+            property.check = all(mapper, "String");
+        }
+    }
+
+    private void declaredRead(Mapper mapper, Property property, String key, DeclaredType type) {
+        final TypeElement element = (TypeElement) type.asElement();
+        final String name = element.getQualifiedName().toString();
+
+        switch (name) {
+            case "java.lang.String":
+                property.read = "toml.getString(" + key + ")";
+                property.check = "value instanceof String";
+                return;
+            case "java.lang.Long":
+                property.read = "toml.getLong(" + key + ")";
+                property.check = LONG_CHECK;
+                return;
+            case "java.lang.Integer":
+                property.read = "toml.getIntValue(" + key + ", 0)";
+                property.check = fits(mapper, "Integer");
+                return;
+            case "java.lang.Short":
+                property.read = "(short) toml.getLongValue(" + key + ", 0)";
+                property.check = fits(mapper, "Short");
+                return;
+            case "java.lang.Byte":
+                property.read = "(byte) toml.getLongValue(" + key + ", 0)";
+                property.check = fits(mapper, "Byte");
+                return;
+            case "java.lang.Double":
+                property.read = "toml.getDouble(" + key + ")";
+                property.check = NUMBER_CHECK;
+                return;
+            case "java.lang.Float":
+                property.read = "(float) toml.getDoubleValue(" + key + ", 0)";
+                property.check = NUMBER_CHECK;
+                return;
+            case "java.lang.Boolean":
+                property.read = "toml.getBoolean(" + key + ")";
+                property.check = "value instanceof Boolean";
+                return;
+            case "java.util.Date":
+                property.read = "toml.getDate(" + key + ")";
+                property.check = DATE_CHECK;
+                return;
+            case "java.time.OffsetDateTime":
+                property.read = "toml.getOffsetDateTime(" + key + ")";
+                property.check = DATE_CHECK;
+                return;
+            case "java.time.LocalDateTime":
+                property.read = "toml.getLocalDateTime(" + key + ")";
+                property.check = "value instanceof java.time.LocalDateTime";
+                return;
+            case "java.time.LocalDate":
+                property.read = "toml.getLocalDate(" + key + ")";
+                property.check = "value instanceof java.time.LocalDate";
+                return;
+            case "java.time.LocalTime":
+                property.read = "toml.getLocalTime(" + key + ")";
+                property.check = "value instanceof java.time.LocalTime";
+                return;
+            case "java.util.List":
+            case "java.util.Collection":
+            case "java.lang.Iterable":
+                listRead(mapper, property, key, type);
+                return;
+            default:
+                break;
+        }
+
+        if (element.getKind() == ElementKind.ENUM) {
+            mapper.helpers.add(Helper.CONSTANT);
+            property.read = "constant(" + name + ".class, toml.getString(" + key + "))";
+            property.check = "value instanceof String";
+        } else if (isMapped(element)) {
+            property.read = "new " + qualifiedMapperName(element) + "().read(toml.getTable(" + key + "))";
+            property.check = "value instanceof Map && new " + qualifiedMapperName(element) + "().canRead(toml.getTable(" + key + "))";
+        }
+    }
+
+    private void listRead(Mapper mapper, Property property, String key, DeclaredType type) {
+        if (type.getTypeArguments().size() != 1 || type.getTypeArguments().get(0).getKind() != TypeKind.DECLARED) {
+            return;
+        }
+
+        final TypeElement itemType = (TypeElement) ((DeclaredType) type.getTypeArguments().get(0)).asElement();
+
+        // Items are copied into a new list, which the bound object may modify, and widened for doubles
+        switch (itemType.getQualifiedName().toString()) {
+            case "java.lang.String":
+            case "java.lang.Long":
+            case "java.lang.Boolean":
+            case "java.util.Date":
+                mapper.helpers.add(Helper.CHECKED);
+                property.read = "checked(toml.getList(" + key + "), " + itemType.getQualifiedName() + ".class)";
+                property.check = all(mapper, itemType.getQualifiedName().toString());
+                return;
+            case "java.lang.Double":
+                mapper.helpers.add(Helper.DOUBLES);
+                property.read = "doubles(toml.getList(" + key + "))";
+                property.check = numbers(mapper);
+                return;
+            default:
+                break;
+        }
+
+        if (isMapped(itemType)) {
+            mapper.helpers.add(Helper.READ_ALL);
+            mapper.helpers.add(Helper.CAN_READ_ALL);
+            property.read = "readAll(toml.getTables(" + key + "), new " + qualifiedMapperName(itemType) + "())";
+            property.check = all(mapper, "Map") + " && canReadAll(toml.getTables(" + key + "), new " + qualifiedMapperName(itemType) + "())";
+        }
+    }
+
+    private String numbers(Mapper mapper) {
+        mapper.helpers.add(Helper.NUMBERS);
+
+        return "numbers(value)";
+    }
+
+    private void write(Mapper mapper) {
+        final String typeName = mapper.type.getQualifiedName().toString();
+        final StringBuilder source = new StringBuilder();
+
+        if (!mapper.packageName.isEmpty()) {
+            source.append("package ").append(mapper.packageName).append(";\n\n");
+        }
+
+        source.append("import com.moandjiezana.toml.Toml;\n")
+            .append("import com.moandjiezana.toml.TomlMapper;\n")
+            .append("import java.util.LinkedHashMap;\n")
+            .append("import java.util.List;\n")
+            .append("import java.util.Map;\n\n")
+            .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+            .append("public final class ").append(mapper.name).append(" implements TomlMapper<").append(typeName).append("> {\n\n")
+            .append("    public ").append(mapper.name).append("() {\n    }\n\n")
+            .append("    @Override\n")
+            .append("    public boolean canRead(Toml toml) {\n")
+            .append("        Object value;\n");
+        for (Property property : mapper.properties) {
+            if (property.staticOwner == null) {
+                source.append("        value = toml.getObject(\"").append(property.name).append("\");\n")
+                    .append("        if (value != null && !(").append(property.check).append(")) {\n")
+                    .append("            return false;\n")
+                    .append("        }\n");
+            }
+        }
+        source.append("        return true;\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public ").append(typeName).append(" read(Toml toml) {\n");
+
+        if (mapper.record) {
+            source.append("        return new ").append(typeName).append("(");
+            for (int i = 0; i < mapper.properties.size(); i++) {
+                final Property property = mapper.properties.get(i);
+                source.append(i == 0 ? "\n            " : ",\n            ");
+                if (property.primitive) {
+                    source.append(String.format(property.read, property.zero));
+                } else {
+                    source.append("toml.contains(\"").append(property.name).append("\") ? ").append(property.read).append(" : null");
+                }
+            }
+            source.append(");\n");
+        } else {
+            source.append("        final ").append(typeName).append(" value = new ").append(typeName).append("();\n");
+            for (Property property : mapper.properties) {
+                if (property.staticOwner != null) {
+                    continue;
+                } else if (property.primitive) {
+                    source.append("        value.").append(property.name).append(" = ").append(String.format(property.read, "value." + property.name)).append(";\n");
+                } else {
+                    source.append("        if (toml.contains(\"").append(property.name).append("\")) {\n")
+                        .append("            value.").append(property.name).append(" = ").append(property.read).append(";\n")
+                        .append("        }\n");
+                }
+            }
+            source.append("        return value;\n");
+        }
+
+        source.append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public Map<String, Object> write(").append(typeName).append(" value) {\n")
+            .append("        final Map<String, Object> map = new LinkedHashMap<String, Object>();\n");
+        for (Property property : mapper.properties) {
+            source.append("        map.put(\"").append(property.name).append("\", ")
+                .append(property.staticOwner != null ? property.staticOwner : "value").append('.').append(property.name).append(mapper.record ? "()" : "").append(");\n");
+        }
+        source.append("        return map;\n    }\n");
+
+        for (Helper helper : mapper.helpers) {
+            source.append('\n').append(helper.source);
+        }
+
+        source.append("}\n");
+
+        final String qualifiedName = mapper.packageName.isEmpty() ? mapper.name : mapper.packageName + "." + mapper.name;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, mapper.type).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            error("Could not write " + qualifiedName + ": " + e.getMessage(), mapper.type);
+        }
+    }
+
+    private boolean accessible(TypeElement type) {
+        for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                error("@TomlMapped classes, and the classes they are nested in, cannot be private", type);
+                return false;
+            }
+
+            if (current.getEnclosingElement() instanceof TypeElement && current.getKind() == ElementKind.CLASS
+                && !current.getModifiers().contains(Modifier.STATIC)) {
+                error("Nested @TomlMapped classes must be static", type);
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean hasNoArgConstructor(TypeElement type) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private TypeElement superclass(TypeElement type) {
+        final TypeMirror superclass = type.getSuperclass();
+
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        final TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+
+        return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+
+    private boolean isMapped(TypeElement type) {
+        return type.getAnnotationMirrors().stream()
+            .anyMatch(annotation -> ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(TOML_MAPPED));
+    }
+
+    private boolean isType(TypeMirror type, String qualifiedName) {
+        return type.getKind() == TypeKind.DECLARED && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(qualifiedName);
+    }
+
+    private PackageElement packageOf(Element element) {
+        return processingEnv.getElementUtils().getPackageOf(element);
+    }
+
+    /**
+     * Must match the name the runtime looks up: the binary name of the class, without its package, with $ replaced by _.
+     */
+    private String mapperName(TypeElement type) {
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        final String packageName = packageOf(type).getQualifiedName().toString();
+        final String simpleBinaryName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+
+        return simpleBinaryName.replace('$', '_') + "TomlMapper";
+    }
+
+    private String qualifiedMapperName(TypeElement type) {
+        final String packageName = packageOf(type).getQualifiedName().toString();
+
+        return packageName.isEmpty() ? mapperName(type) : packageName + "." + mapperName(type);
+    }
+
+    private void warning(String message, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+
+    private void error(String message, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static class Mapper {
+        final TypeElement type;
+        final String packageName;
+        final String name;
+        final boolean record;
+        final List<Property> properties = new ArrayList<Property>();
+        final Set<Helper> helpers = EnumSet.noneOf(Helper.class);
+
+        Mapper(TypeElement type, String packageName, String name) {
+            this.type = type;
+            this.packageName = packageName;
+            this.name = name;
+            this.record = type.getKind() == ElementKind.RECORD;
+        }
+    }
+
+    /**
+     * Methods added to the generated mappers that need them
+     */
+    private enum Helper {
+        FITS(
+            "    private static boolean fits(Object value, long min, long max) {\n"
+            + "        return value instanceof Long && (Long) value >= min && (Long) value <= max;\n"
+            + "    }\n"),
+        ALL(
+            "    private static boolean all(Object value, Class<?> type) {\n"
+            + "        if (!(value instanceof List)) {\n"
+            + "            return false;\n"
+            + "        }\n"
+            + "        for (Object item : (List<?>) value) {\n"
+            + "            if (!type.isInstance(item)) {\n"
+            + "                return false;\n"
+            + "            }\n"
+            + "        }\n"
+            + "        return true;\n"
+            + "    }\n"),
+        NUMBERS(
+            "    private static boolean numbers(Object value) {\n"
+            + "        if (!(value instanceof List)) {\n"
+            + "            return false;\n"
+            + "        }\n"
+            + "        for (Object item : (List<?>) value) {\n"
+            + "            if (!(item instanceof Long || item instanceof Double)) {\n"
+            + "                return false;\n"
+            + "            }\n"
+            + "        }\n"
+            + "        return true;\n"
+            + "    }\n"),
+        CAN_READ_ALL(
+            "    private static boolean canReadAll(List<Toml> tables, TomlMapper<?> mapper) {\n"
+            + "        for (Toml table : tables) {\n"
+            + "            if (!mapper.canRead(table)) {\n"
+            + "                return false;\n"
+            + "            }\n"
+            + "        }\n"
+            + "        return true;\n"
+            + "    }\n"),
+        CONSTANT(
+            "    private static <E extends Enum<E>> E constant(Class<E> type, String name) {\n"
+            + "        for (E constant : type.getEnumConstants()) {\n"
+            + "            if (constant.name().equals(name)) {\n"
+            + "                return constant;\n"
+            + "            }\n"
+            + "        }\n"
+            + "        return null;\n"
+            + "    }\n"),
+        CHECKED(
+            "    private static <T> List<T> checked(List<?> values, Class<T> type) {\n"
+            + "        final List<T> list = new java.util.ArrayList<T>(values.size());\n"
+            + "        for (Object value : values) {\n"
+            + "            list.add(type.cast(value));\n"
+            + "        }\n"
+            + "        return list;\n"
+            + "    }\n"),
+        DOUBLES(
+            "    private static List<Double> doubles(List<?> values) {\n"
+            + "        final List<Double> list = new java.util.ArrayList<Double>(values.size());\n"
+            + "        for (Object value : values) {\n"
+            + "            list.add(value instanceof Long ? Double.valueOf((Long) value) : (Double) value);\n"
+            + "        }\n"
+            + "        return list;\n"
+            + "    }\n"),
+        READ_ALL(
+            "    private static <T> List<T> readAll(List<Toml> tables, TomlMapper<T> mapper) {\n"
+            + "        final List<T> values = new java.util.ArrayList<T>(tables.size());\n"
+            + "        for (Toml table : tables) {\n"
+            + "            values.add(mapper.read(table));\n"
+            + "        }\n"
+            + "        return values;\n"
+            + "    }\n");
+
+        final String source;
+
+        Helper(String source) {
+            this.source = source;
+        }
+    }
+
+    private static class Property {
+        final String name;
+        final boolean primitive;
+        /**
+         * The class declaring a static field, which is written but not read
+         */
+        String staticOwner;
+        /**
+         * The expression that reads the value from a Toml named toml. For primitives, %s stands for the default value.
+         */
+        String read;
+        /**
+         * The condition that the value, named value and not null, must meet for read not to throw
+         */
+        String check;
+        String zero;
+
+        Property(String name, boolean primitive) {
+            this.name = name;
+            this.primitive = primitive;
+        }
+    }
+}
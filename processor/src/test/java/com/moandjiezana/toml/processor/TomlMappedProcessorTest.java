@@ -0,0 +1,222 @@
+package com.moandjiezana.toml.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.gson.Gson;
+import com.moandjiezana.toml.Toml;
+import com.moandjiezana.toml.TomlMapper;
+import com.moandjiezana.toml.TomlWriter;
+
+/**
+ * Compiles the fixture classes twice, once with the processor and once without it, and checks that the generated mappers read and write
+ * the same TOML as the reflective path.
+ */
+public class TomlMappedProcessorTest {
+
+    @ClassRule
+    public static final TemporaryFolder FOLDER = new TemporaryFolder();
+
+    private static Class<?> mapped;
+    private static Class<?> reflective;
+
+    @BeforeClass
+    public static void compile_fixtures() throws Exception {
+        final Path mappedClasses = FOLDER.newFolder("mapped").toPath();
+        final Path reflectiveClasses = FOLDER.newFolder("reflective").toPath();
+
+        assertNoErrors(compile(mappedClasses, true, "fixture/Server.java"));
+        assertNoErrors(compile(reflectiveClasses, false, "fixture/Server.java"));
+
+        mapped = load(mappedClasses, "fixture.Server");
+        reflective = load(reflectiveClasses, "fixture.Server");
+    }
+
+    @Test
+    public void should_generate_mappers_for_annotated_classes_only_when_processing() throws Exception {
+        for (String mapper : Arrays.asList("fixture.ServerTomlMapper", "fixture.Server_EndpointTomlMapper", "fixture.Server_LimitsTomlMapper")) {
+            assertTrue(mapper, exists(mapped.getClassLoader(), mapper));
+            assertFalse(mapper, exists(reflective.getClassLoader(), mapper));
+        }
+    }
+
+    @Test
+    public void should_read_and_write_like_reflection() throws Exception {
+        final String toml = "host = \"localhost\"\n"
+            + "port = 9000\n"
+            + "s = 12\n"
+            + "f = 1.5\n"
+            + "enabled = true\n"
+            + "timeout = 30\n"
+            + "mode = \"SAFE\"\n"
+            + "since = 2017-04-01\n"
+            + "tags = [\"a\", \"b\"]\n"
+            + "ratios = [0.5, 1.5]\n"
+            + "ids = [1, 2, 3]\n"
+            + "names = [\"x\", \"y\"]\n"
+            + "alsoIgnored = 4\n"
+            + "[main]\n"
+            + "  path = \"/\"\n"
+            + "  weight = 2\n"
+            + "[limits]\n"
+            + "  max = 10\n"
+            + "  ratio = 0.25\n"
+            + "  name = \"default\"\n"
+            + "[[endpoints]]\n"
+            + "  path = \"/a\"\n"
+            + "[[endpoints]]\n"
+            + "  path = \"/b\"\n"
+            + "  weight = 3\n";
+
+        final String written = readAndWrite(mapped, toml);
+        assertTrue(written, written.contains("since = 2017-04-01") && written.contains("ratio = 0.25") && written.contains("path = \"/b\""));
+        assertSameAsReflection(toml);
+    }
+
+    @Test
+    public void should_widen_integers_like_reflection() throws Exception {
+        assertSameAsReflection("f = 2\nratios = [1, 2]");
+        assertSameAsReflection("limits = { ratio = 3 }");
+    }
+
+    @Test
+    public void should_fail_like_reflection() throws Exception {
+        assertSameAsReflection("enabled = 'true'");
+        assertSameAsReflection("port = 'abc'");
+        assertSameAsReflection("port = 2.0");
+        assertSameAsReflection("tags = [1, 2]");
+        assertSameAsReflection("s = 40000");
+        assertSameAsReflection("timeout = 1.5");
+    }
+
+    @Test
+    public void should_check_value_types_before_reading() throws Exception {
+        final TomlMapper<?> mapper = (TomlMapper<?>) Class.forName("fixture.ServerTomlMapper", true, mapped.getClassLoader()).getConstructor().newInstance();
+
+        assertTrue(mapper.canRead(new Toml().read("port = 1\nratios = [1, 2]\n[[endpoints]]\nweight = 2")));
+        assertFalse(mapper.canRead(new Toml().read("port = 3000000000")));
+        assertFalse(mapper.canRead(new Toml().read("names = [1, 2]")));
+        assertFalse(mapper.canRead(new Toml().read("[[endpoints]]\nweight = 'heavy'")));
+        assertFalse(mapper.canRead(new Toml().read("limits = { max = 1.5 }")));
+    }
+
+    @Test
+    public void should_read_back_what_it_writes() throws Exception {
+        final String toml = write(new Toml().read("host = \"h\"\nids = [1, 2]\nratios = [0.5]\n[main]\npath = \"/\"\n[[endpoints]]\npath = \"/a\"").to(mapped));
+
+        assertEquals(toml, write(new Toml().read(toml).to(mapped)));
+    }
+
+    @Test
+    public void should_warn_and_not_generate_mapper_for_unsupported_field() throws Exception {
+        final Path classes = FOLDER.newFolder("unsupported").toPath();
+        final DiagnosticCollector<JavaFileObject> diagnostics = compile(classes, true, "fixture/Settings.java");
+
+        assertNoErrors(diagnostics);
+        boolean warned = false;
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            warned |= diagnostic.getKind() == Diagnostic.Kind.WARNING && diagnostic.getMessage(null).contains("extra");
+        }
+        assertTrue(diagnostics.getDiagnostics().toString(), warned);
+        assertFalse(Files.exists(classes.resolve("fixture/SettingsTomlMapper.class")));
+    }
+
+    private static void assertSameAsReflection(String toml) {
+        assertEquals(toml, readAndWrite(reflective, toml), readAndWrite(mapped, toml));
+    }
+
+    /**
+     * @return the TOML written from the instance read from toml, or the name of the exception thrown while doing so
+     */
+    private static String readAndWrite(Class<?> type, String toml) {
+        try {
+            return write(new Toml().read(toml).to(type));
+        } catch (RuntimeException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    private static String write(Object object) {
+        return new TomlWriter().write(object);
+    }
+
+    private static DiagnosticCollector<JavaFileObject> compile(Path classes, boolean process, String... fixtures) throws IOException, URISyntaxException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+        final List<File> sources = new ArrayList<File>();
+        for (String fixture : fixtures) {
+            sources.add(Paths.get(TomlMappedProcessorTest.class.getResource("/" + fixture).toURI()).toFile());
+        }
+        // Surefire may run the tests from a manifest-only jar, so java.class.path cannot be passed on
+        final String classpath = location(Toml.class) + File.pathSeparator + location(Gson.class);
+        final List<String> options = new ArrayList<String>(Arrays.asList("-d", classes.toString(), "-classpath", classpath));
+        if (!process) {
+            options.add("-proc:none");
+        }
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, fileManager.getJavaFileObjectsFromFiles(sources));
+            if (process) {
+                task.setProcessors(Collections.singletonList(new TomlMappedProcessor()));
+            }
+            task.call();
+        }
+
+        return diagnostics;
+    }
+
+    private static void assertNoErrors(DiagnosticCollector<JavaFileObject> diagnostics) {
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                fail(diagnostic.toString());
+            }
+        }
+    }
+
+    private static String location(Class<?> type) throws URISyntaxException {
+        return Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    }
+
+    @SuppressWarnings("resource")
+    private static Class<?> load(Path classes, String name) throws Exception {
+        final ClassLoader classLoader = new URLClassLoader(new URL[] { classes.toUri().toURL() }, TomlMappedProcessorTest.class.getClassLoader());
+
+        return Class.forName(name, true, classLoader);
+    }
+
+    private static boolean exists(ClassLoader classLoader, String name) {
+        try {
+            Class.forName(name, false, classLoader);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
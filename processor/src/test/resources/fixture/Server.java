@@ -0,0 +1,37 @@
+package fixture;
+
+import com.moandjiezana.toml.TomlMapped;
+import java.time.LocalDate;
+import java.util.List;
+
+@TomlMapped
+public class Server {
+    public enum Mode { FAST, SAFE }
+
+    @TomlMapped
+    public static class Endpoint {
+        public String path;
+        public int weight = 1;
+    }
+
+    @TomlMapped
+    public record Limits(long max, Double ratio, String name) {}
+
+    public String host;
+    public int port = 8080;
+    public short s;
+    public float f;
+    public boolean enabled;
+    public Long timeout;
+    public Mode mode;
+    public LocalDate since;
+    public List<String> tags;
+    public List<Double> ratios;
+    public long[] ids;
+    public String[] names;
+    public Endpoint main;
+    public List<Endpoint> endpoints;
+    public Limits limits;
+    transient int ignored;
+    static int alsoIgnored;
+}
@@ -0,0 +1,10 @@
+package fixture;
+
+import com.moandjiezana.toml.TomlMapped;
+import java.util.Map;
+
+@TomlMapped
+public class Settings {
+    public String name;
+    public Map<String, Object> extra;
+}